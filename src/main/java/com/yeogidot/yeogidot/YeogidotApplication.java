@@ -5,17 +5,26 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.Map;
 
 // 메인 애플리케이션 클래스
 
 @EnableJpaAuditing
 @EnableCaching
+@EnableScheduling
 @SpringBootApplication(exclude = {
 		SecurityAutoConfiguration.class
 })
 public class YeogidotApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(YeogidotApplication.class, args);
+		SpringApplication application = new SpringApplication(YeogidotApplication.class);
+		// open-in-view 끔: 요청 중 한 번 조회하면 요청이 끝날 때까지(사진 업로드 수 초 동안) DB 커넥션을 잡고 있지 않도록
+		// 트랜잭션 밖에서는 지연 로딩 불가 → 컨트롤러는 현재 유저 프록시의 id만 사용
+		// (기본값이므로 외부 설정으로 덮어쓸 수 있음)
+		application.setDefaultProperties(Map.of("spring.jpa.open-in-view", "false"));
+		application.run(args);
 	}
 }
\ No newline at end of file
@@ -4,16 +4,23 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.util.unit.DataSize;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
 
 import java.net.URI;
+import java.time.Duration;
 
 /**
  * Cloudflare R2 Storage 설정 (S3 호환 API 사용)
+ * - S3Client: 삭제 등 단건 동기 호출
+ * - S3AsyncClient: 사진 업로드 (Netty 기반 비동기, 큰 파일은 멀티파트 업로드)
+ * - r2.endpoint를 지정하면 R2 대신 MinIO 등 S3 호환 저장소로 연결 (로컬 개발/테스트용)
  */
 @Slf4j
 @Configuration
@@ -28,11 +35,29 @@ public class GcsConfig {
     @Value("${r2.account-id}")
     private String accountId;
 
+    @Value("${r2.endpoint:}")
+    private String endpointOverride;
+
+    @Value("${r2.force-path-style:false}")
+    private boolean forcePathStyle;
+
+    @Value("${r2.async.max-concurrency:64}")
+    private int asyncMaxConcurrency;
+
+    @Value("${r2.async.connection-acquire-timeout:PT30S}")
+    private Duration connectionAcquireTimeout;
+
+    @Value("${r2.multipart.threshold:16MB}")
+    private DataSize multipartThreshold;
+
+    @Value("${r2.multipart.part-size:8MB}")
+    private DataSize multipartPartSize;
+
     @Bean
     public S3Client s3Client() {
         log.info("🔧 R2 S3Client 초기화 시작");
 
-        String endpoint = String.format("https://%s.r2.cloudflarestorage.com", accountId);
+        String endpoint = endpoint();
 
         S3Client client = S3Client.builder()
                 .endpointOverride(URI.create(endpoint))
@@ -42,6 +67,7 @@ public class GcsConfig {
                         )
                 )
                 .region(Region.of("auto"))
+                .forcePathStyle(forcePathStyle)
                 .build();
 
         log.info("✅ R2 S3Client 초기화 완료 - endpoint: {}", endpoint);
@@ -49,7 +75,39 @@ public class GcsConfig {
     }
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public S3AsyncClient s3AsyncClient() {
+        log.info("🔧 R2 S3AsyncClient 초기화 시작");
+
+        String endpoint = endpoint();
+
+        S3AsyncClient client = S3AsyncClient.builder()
+                .endpointOverride(URI.create(endpoint))
+                .credentialsProvider(
+                        StaticCredentialsProvider.create(
+                                AwsBasicCredentials.create(accessKey, secretKey)
+                        )
+                )
+                .region(Region.of("auto"))
+                .forcePathStyle(forcePathStyle)
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(asyncMaxConcurrency)
+                        .connectionAcquisitionTimeout(connectionAcquireTimeout))
+                .multipartEnabled(true)
+                .multipartConfiguration(MultipartConfiguration.builder()
+                        .thresholdInBytes(multipartThreshold.toBytes())
+                        .minimumPartSizeInBytes(multipartPartSize.toBytes())
+                        .build())
+                .build();
+
+        log.info("✅ R2 S3AsyncClient 초기화 완료 - endpoint: {}, 최대 동시 연결: {}, 멀티파트 기준: {}",
+                endpoint, asyncMaxConcurrency, multipartThreshold);
+        return client;
+    }
+
+    private String endpoint() {
+        if (endpointOverride != null && !endpointOverride.isBlank()) {
+            return endpointOverride;
+        }
+        return String.format("https://%s.r2.cloudflarestorage.com", accountId);
     }
 }
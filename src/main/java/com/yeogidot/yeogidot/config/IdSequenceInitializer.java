@@ -0,0 +1,57 @@
+package com.yeogidot.yeogidot.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * SEQUENCE ID 테이블 준비
+ * - MySQL은 시퀀스가 없어 Hibernate가 "{시퀀스명}" 테이블(next_val 컬럼)로 시퀀스를 흉내 냄
+ * - 기존 IDENTITY로 쌓인 행과 ID가 겹치지 않도록, 시작 시 next_val을 현재 최대 ID 이후로 맞춤
+ * - 스키마 생성/갱신이 끝난 뒤 실행되도록 entityManagerFactory 이후에 초기화
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class IdSequenceInitializer {
+
+    // 엔티티의 @SequenceGenerator allocationSize와 같아야 함
+    static final int ALLOCATION_SIZE = 50;
+
+    private static final List<SequenceTable> SEQUENCES = List.of(
+            new SequenceTable("photo_seq", "photo", "photo_id"),
+            new SequenceTable("travel_day_seq", "travel_day", "day_id"),
+            new SequenceTable("storage_deletion_seq", "storage_deletion", "deletion_id")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    void alignSequences() {
+        for (SequenceTable sequence : SEQUENCES) {
+            try {
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + sequence.name() + " (next_val BIGINT)");
+                jdbcTemplate.update("INSERT INTO " + sequence.name() + " (next_val) SELECT 1 FROM DUAL"
+                        + " WHERE NOT EXISTS (SELECT 1 FROM " + sequence.name() + ")");
+
+                // 풀링 최적화기는 읽은 값에서 (allocationSize - 1)을 뺀 값부터 사용하므로 그만큼 여유를 둠
+                int updated = jdbcTemplate.update("UPDATE " + sequence.name()
+                        + " SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(" + sequence.idColumn() + "), 0) + ? FROM "
+                        + sequence.table() + "))", ALLOCATION_SIZE + 1);
+                log.info("✅ ID 시퀀스 정렬 완료: {} ({}행)", sequence.name(), updated);
+            } catch (Exception e) {
+                log.error("❌ ID 시퀀스 정렬 실패: {} - {}", sequence.name(), e.getMessage());
+                throw e;
+            }
+        }
+    }
+
+    private record SequenceTable(String name, String table, String idColumn) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.yeogidot.yeogidot.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * JDBC 배치 INSERT/UPDATE 설정
+ * - Photo, TravelDay는 SEQUENCE(풀링) ID를 사용하므로 INSERT를 모아서 한 번에 전송 가능
+ *   (IDENTITY는 INSERT 직후 ID를 받아야 해서 Hibernate가 배치를 쓰지 못함)
+ * - 같은 테이블 문장끼리 모이도록 INSERT/UPDATE 순서 정렬
+ * - MySQL 드라이버가 배치를 다중 VALUES 한 문장으로 재작성하도록 rewriteBatchedStatements 활성화
+ */
+@Slf4j
+@Configuration
+public class JpaBatchConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer(Environment environment) {
+        int batchSize = environment.getProperty("jpa.batch-size", Integer.class, 50);
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+            properties.put(AvailableSettings.BATCH_VERSIONED_DATA, true);
+            log.info("🔧 JDBC 배치 설정 - batch_size: {}", batchSize);
+        };
+    }
+
+    /**
+     * Hikari 커넥션 풀 생성 시 MySQL 드라이버 속성 추가
+     * (BeanPostProcessor는 다른 빈보다 먼저 만들어져야 하므로 static)
+     */
+    @Bean
+    public static BeanPostProcessor mysqlBatchRewritePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    dataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package com.yeogidot.yeogidot.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 카카오 API 전용 HTTP 클라이언트 설정
+ * - JDK HttpClient 사용: 커넥션 재사용(keep-alive), HTTP/2 지원
+ * - 연결/응답 타임아웃 지정 (기본 RestTemplate은 무한 대기 → 업로드 스레드가 멈출 수 있음)
+ * - 동시 호출 수 제한과 서킷 브레이커는 KakaoReverseGeocoder에서 처리
+ */
+@Slf4j
+@Configuration
+public class KakaoClientConfig {
+
+    @Value("${kakao.api.base-url:https://dapi.kakao.com}")
+    private String baseUrl;
+
+    @Value("${kakao.api.connect-timeout:PT2S}")
+    private Duration connectTimeout;
+
+    @Value("${kakao.api.read-timeout:PT3S}")
+    private Duration readTimeout;
+
+    // HttpClient.close()는 직접 넘긴 실행기를 종료하지 않으므로 별도 빈으로 두고 종료 시 함께 닫음
+    @Bean(name = "kakaoHttpExecutor", destroyMethod = "close")
+    public ExecutorService kakaoHttpExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("kakao-http-", 0).factory());
+    }
+
+    @Bean(destroyMethod = "close")
+    public HttpClient kakaoHttpClient(@Qualifier("kakaoHttpExecutor") ExecutorService kakaoHttpExecutor) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .executor(kakaoHttpExecutor)
+                .build();
+    }
+
+    @Bean
+    public RestTemplate kakaoRestTemplate(HttpClient kakaoHttpClient) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(kakaoHttpClient);
+        requestFactory.setReadTimeout(readTimeout);
+
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.setUriTemplateHandler(new DefaultUriBuilderFactory(baseUrl));
+
+        log.info("✅ 카카오 HTTP 클라이언트 초기화 - baseUrl: {}, 연결 타임아웃: {}, 응답 타임아웃: {}",
+                baseUrl, connectTimeout, readTimeout);
+        return restTemplate;
+    }
+}
@@ -0,0 +1,37 @@
+package com.yeogidot.yeogidot.config;
+
+import com.yeogidot.yeogidot.service.PhotoGeoTileService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 지도 격자 집계 채우기
+ * - photo_geo_tile 테이블이 새로 생겨 비어 있고 위치 정보 있는 사진이 있으면 photo 테이블에서 한 번 계산
+ * - 이후에는 사진 추가/삭제/위치 수정 때 PhotoGeoTileService가 증감으로 유지
+ * - 지오해시 채우기(PhotoGeohashBackfill)가 끝난 뒤 실행
+ */
+@Slf4j
+@Component
+@DependsOn({"entityManagerFactory", "photoGeohashBackfill"})
+@RequiredArgsConstructor
+public class PhotoGeoTileBackfill {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PhotoGeoTileService photoGeoTileService;
+
+    @PostConstruct
+    void backfill() {
+        boolean hasTiles = !jdbcTemplate.queryForList("SELECT 1 FROM photo_geo_tile LIMIT 1").isEmpty();
+        boolean hasGeotagged = !jdbcTemplate.queryForList("SELECT 1 FROM photo WHERE geohash IS NOT NULL LIMIT 1").isEmpty();
+        if (hasTiles || !hasGeotagged) {
+            return;
+        }
+
+        int tiles = photoGeoTileService.rebuildAll();
+        log.info("✅ 지도 격자 집계 채우기 완료: {}개 격자", tiles);
+    }
+}
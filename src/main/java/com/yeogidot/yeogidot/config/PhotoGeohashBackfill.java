@@ -0,0 +1,65 @@
+package com.yeogidot.yeogidot.config;
+
+import com.yeogidot.yeogidot.service.GeoHash;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사진 지오해시 채우기
+ * - geohash 컬럼 추가 전에 저장된 위치 정보 있는 사진의 지오해시를 계산해 저장
+ * - photo_id 순으로 BATCH_SIZE씩 나눠 처리 (한 번에 전체를 메모리에 올리지 않음)
+ * - 채울 행이 없으면 조회 한 번으로 끝남
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class PhotoGeohashBackfill {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    void backfill() {
+        long lastId = 0;
+        int total = 0;
+
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT photo_id, latitude, longitude FROM photo " +
+                            "WHERE photo_id > ? AND geohash IS NULL AND latitude IS NOT NULL AND longitude IS NOT NULL " +
+                            "ORDER BY photo_id LIMIT ?", lastId, BATCH_SIZE);
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            List<Object[]> updates = new ArrayList<>(rows.size());
+            for (Map<String, Object> row : rows) {
+                double latitude = ((BigDecimal) row.get("latitude")).doubleValue();
+                double longitude = ((BigDecimal) row.get("longitude")).doubleValue();
+                lastId = ((Number) row.get("photo_id")).longValue();
+                updates.add(new Object[]{GeoHash.encode(latitude, longitude, GeoHash.STORED_PRECISION), lastId});
+            }
+            jdbcTemplate.batchUpdate("UPDATE photo SET geohash = ? WHERE photo_id = ?", updates);
+            total += updates.size();
+
+            if (rows.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("✅ 사진 지오해시 채우기 완료: {}장", total);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.yeogidot.yeogidot.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis Pub/Sub 설정
+ * - 서버마다 가진 로컬(L1) 캐시를 다른 서버의 변경에 맞춰 비우기 위한 메시지 수신 컨테이너
+ * - 각 캐시가 자기 채널을 이 컨테이너에 등록해 사용
+ */
+@Configuration
+public class RedisMessagingConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+}
@@ -2,13 +2,14 @@ package com.yeogidot.yeogidot.config;
 
 import com.yeogidot.yeogidot.exception.JwtAccessDeniedHandler;
 import com.yeogidot.yeogidot.exception.JwtAuthenticationEntryPoint;
-import com.yeogidot.yeogidot.repository.UserRepository;
 import com.yeogidot.yeogidot.security.JwtAuthenticationFilter;
 import com.yeogidot.yeogidot.security.JwtTokenProvider;
+import com.yeogidot.yeogidot.security.PrincipalCache;
+import com.yeogidot.yeogidot.security.TokenBlacklist;
+import com.yeogidot.yeogidot.security.TokenVersionStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -31,8 +32,9 @@ public class SecurityConfig {
     private final JwtTokenProvider jwtTokenProvider;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
-    private final StringRedisTemplate redisTemplate;
-    private final UserRepository userRepository;
+    private final TokenBlacklist tokenBlacklist;
+    private final TokenVersionStore tokenVersionStore;
+    private final PrincipalCache principalCache;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -56,9 +58,10 @@ public class SecurityConfig {
                         // OPTIONS 요청 (CORS preflight) 허용
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 
-                        // 인증 필요 - 비밀번호 변경, 회원탈퇴 (permitAll 범위에서 명시적으로 제외)
+                        // 인증 필요 - 비밀번호 변경, 회원탈퇴, 모든 기기 로그아웃 (permitAll 범위에서 명시적으로 제외)
                         .requestMatchers(HttpMethod.PATCH, "/api/auth/password").authenticated()
                         .requestMatchers(HttpMethod.DELETE, "/api/auth/account").authenticated()
+                        .requestMatchers(HttpMethod.POST, "/api/auth/logout-all").authenticated()
 
                         // 인증 불필요 경로
                         .requestMatchers(
@@ -72,7 +75,7 @@ public class SecurityConfig {
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(
-                        new JwtAuthenticationFilter(jwtTokenProvider, redisTemplate, userRepository),
+                        new JwtAuthenticationFilter(jwtTokenProvider, tokenBlacklist, principalCache, tokenVersionStore),
                         UsernamePasswordAuthenticationFilter.class
                 );
 
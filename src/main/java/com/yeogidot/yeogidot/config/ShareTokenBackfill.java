@@ -0,0 +1,77 @@
+package com.yeogidot.yeogidot.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 공유 토큰 이관 (travel.share_url → travel.share_token)
+ * - 예전에는 "{frontendBaseUrl}/share/{uuid}" 전체 문자열을 인덱스 없이 저장해 조회마다 전체 스캔이 발생
+ * - share_url의 마지막 경로(uuid)를 BINARY(16) share_token으로 옮겨 기존 공유 링크를 그대로 유지
+ * - 토큰 형식이 아닌 값은 새 토큰을 발급 (기존 링크는 무효)
+ * - share_url 컬럼이 없는 새 스키마에서는 건너뜀
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class ShareTokenBackfill {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    void backfill() {
+        List<Map<String, Object>> rows;
+        try {
+            rows = jdbcTemplate.queryForList(
+                    "SELECT travel_id, share_url FROM travel WHERE share_token IS NULL AND share_url IS NOT NULL AND share_url <> ''");
+        } catch (DataAccessException e) {
+            log.info("ℹ️ 공유 토큰 이관 건너뜀 (share_url 컬럼 없음)");
+            return;
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> updates = new ArrayList<>(rows.size());
+        int regenerated = 0;
+        for (Map<String, Object> row : rows) {
+            String shareUrl = (String) row.get("share_url");
+            UUID token = parseToken(shareUrl);
+            if (token == null) {
+                token = UUID.randomUUID();
+                regenerated++;
+            }
+            updates.add(new Object[]{toBytes(token), row.get("travel_id")});
+        }
+
+        jdbcTemplate.batchUpdate("UPDATE travel SET share_token = ? WHERE travel_id = ? AND share_token IS NULL", updates);
+        log.info("✅ 공유 토큰 이관 완료: {}건 (새로 발급 {}건)", updates.size(), regenerated);
+    }
+
+    private static UUID parseToken(String shareUrl) {
+        try {
+            return UUID.fromString(shareUrl.substring(shareUrl.lastIndexOf('/') + 1));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // Hibernate의 UUID ↔ BINARY(16) 변환과 같은 바이트 순서 (상위 64비트 → 하위 64비트)
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,42 @@
+package com.yeogidot.yeogidot.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 사진 업로드 전용 실행기 설정
+ * - R2 업로드, 카카오 API 호출처럼 블로킹 I/O 작업을 ForkJoinPool.commonPool 대신 이 실행기에서 처리
+ * - 기본값은 가상 스레드 (I/O 대기 중 캐리어 스레드를 점유하지 않음)
+ * - 동시 실행 수 제한은 UploadConcurrencyLimiter가 담당
+ */
+@Slf4j
+@Configuration
+public class UploadExecutorConfig {
+
+    @Value("${upload.executor.virtual-threads:true}")
+    private boolean virtualThreads;
+
+    @Value("${upload.executor.pool-size:16}")
+    private int poolSize;
+
+    @Bean(name = "uploadExecutor", destroyMethod = "shutdown")
+    public ExecutorService uploadExecutor() {
+        if (virtualThreads) {
+            log.info("🔧 업로드 실행기 초기화 - 가상 스레드");
+            return Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("photo-upload-", 0).factory()
+            );
+        }
+
+        log.info("🔧 업로드 실행기 초기화 - 고정 스레드 풀 ({}개)", poolSize);
+        return Executors.newFixedThreadPool(
+                poolSize,
+                Thread.ofPlatform().name("photo-upload-", 0).daemon(true).factory()
+        );
+    }
+}
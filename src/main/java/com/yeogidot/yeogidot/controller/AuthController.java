@@ -5,8 +5,8 @@ import com.yeogidot.yeogidot.dto.DeleteAccountRequest;
 import com.yeogidot.yeogidot.dto.LoginRequest;
 import com.yeogidot.yeogidot.dto.SignupRequest;
 import com.yeogidot.yeogidot.entity.User;
-import com.yeogidot.yeogidot.exception.UnauthenticatedException;
 import com.yeogidot.yeogidot.repository.UserRepository;
+import com.yeogidot.yeogidot.security.AuthenticatedUser;
 import com.yeogidot.yeogidot.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -18,14 +18,12 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import jakarta.servlet.http.HttpServletRequest;
 
 import java.util.Map;
 
-@Tag(name = "인증", description = "회원가입, 로그인, 로그아웃, 비밀번호 변경, 회원탈퇴 API")
+@Tag(name = "인증", description = "회원가입, 로그인, 로그아웃, 모든 기기 로그아웃, 비밀번호 변경, 회원탈퇴 API")
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
@@ -104,6 +102,25 @@ public class AuthController {
         return ResponseEntity.ok(Map.of("message", "로그아웃되었습니다."));
     }
 
+    @Operation(summary = "모든 기기 로그아웃", description = "지금까지 발급된 이 계정의 모든 토큰을 무효화합니다. JWT 인증이 필요합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "모든 기기 로그아웃 성공",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {"message": "모든 기기에서 로그아웃되었습니다."}
+                                    """))),
+            @ApiResponse(responseCode = "401", description = "인증 실패 (토큰 없음 또는 만료)",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {"status": 401, "error": "UNAUTHORIZED", "message": "인증이 필요합니다."}
+                                    """)))
+    })
+    @PostMapping("/logout-all")
+    public ResponseEntity<Map<String, String>> logoutAll() {
+        authService.logoutAll(AuthenticatedUser.current().userId());
+        return ResponseEntity.ok(Map.of("message", "모든 기기에서 로그아웃되었습니다."));
+    }
+
     @Operation(summary = "비밀번호 변경", description = "현재 비밀번호 확인 후 새 비밀번호로 변경합니다. JWT 인증이 필요합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "비밀번호 변경 성공",
@@ -148,31 +165,18 @@ public class AuthController {
                                     """)))
     })
     @DeleteMapping("/account")
-    public ResponseEntity<Map<String, String>> deleteAccount(
-            @Parameter(hidden = true)
-            @RequestHeader(value = "Authorization", required = false) String bearerToken,
-            @RequestBody DeleteAccountRequest request) {
+    public ResponseEntity<Map<String, String>> deleteAccount(@RequestBody DeleteAccountRequest request) {
         User currentUser = getCurrentUser();
-
-        String token = null;
-        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-            token = bearerToken.substring(7);
-        }
-
-        authService.deleteAccount(currentUser.getId(), request, token);
+        authService.deleteAccount(currentUser.getId(), request);
         return ResponseEntity.ok(Map.of("message", "회원탈퇴가 완료되었습니다."));
     }
 
     /**
      * SecurityContext에서 현재 로그인 유저 조회
+     * - principal의 userId로 프록시만 만듦 (조회 쿼리 없음)
+     * - open-in-view가 꺼져 있어 id 외의 필드는 읽을 수 없음 (사용자 정보가 필요하면 서비스 트랜잭션 안에서 조회)
      */
     private User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new UnauthenticatedException("인증이 필요합니다.");
-        }
-        String email = authentication.getName();
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new UnauthenticatedException("인증이 필요합니다."));
+        return userRepository.getReferenceById(AuthenticatedUser.current().userId());
     }
 }
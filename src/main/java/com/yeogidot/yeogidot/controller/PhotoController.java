@@ -1,13 +1,13 @@
 package com.yeogidot.yeogidot.controller;
 
 import com.yeogidot.yeogidot.dto.MovePhotoRequest;
-import com.yeogidot.yeogidot.exception.UnauthenticatedException;
 import com.yeogidot.yeogidot.dto.PhotoDto;
 import com.yeogidot.yeogidot.dto.PhotoUpdateRequest;
 import com.yeogidot.yeogidot.dto.TravelDto;
 import com.yeogidot.yeogidot.entity.Photo;
 import com.yeogidot.yeogidot.entity.User;
 import com.yeogidot.yeogidot.repository.UserRepository;
+import com.yeogidot.yeogidot.security.AuthenticatedUser;
 import com.yeogidot.yeogidot.service.PhotoService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -20,12 +20,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -44,7 +43,7 @@ public class PhotoController {
      */
     @Operation(
             summary = "사진 업로드",
-            description = "여러 장의 사진을 업로드합니다. 메타데이터(위치, 촬영시간 등)를 JSON 형식으로 함께 전송합니다."
+            description = "여러 장의 사진을 업로드합니다. 촬영시간과 위치는 사진 파일의 EXIF에서 읽으며, 메타데이터(JSON)를 함께 보내면 EXIF 값 대신 사용합니다."
     )
     @ApiResponses({
             @ApiResponse(
@@ -159,10 +158,10 @@ public class PhotoController {
             @Parameter(description = "업로드할 이미지 파일 목록", required = true)
             @RequestParam("files") List<MultipartFile> files,
             @Parameter(
-                    description = "각 파일의 메타데이터를 담은 JSON 배열 (String 형태로 전송)\n\n예시:\n[{\"originalName\":\"photo1.jpg\",\"takenAt\":\"2025-11-12T10:00:00\",\"latitude\":35.1584,\"longitude\":129.1603}]",
-                    required = true
+                    description = "(선택) EXIF 값을 덮어쓸 메타데이터 JSON 배열 (String 형태로 전송)\n\noriginalName이 파일명과 같은 항목을 해당 파일에 적용하며, 파일 개수와 같으면 순서대로 적용합니다. 값이 없는 항목은 EXIF 값을 사용합니다.\n\n예시:\n[{\"originalName\":\"photo1.jpg\",\"takenAt\":\"2025-11-12T10:00:00\",\"latitude\":35.1584,\"longitude\":129.1603}]",
+                    required = false
             )
-            @RequestParam("metadata") String metadata
+            @RequestParam(value = "metadata", required = false) String metadata
     ) throws IOException {
         // 현재 로그인한 유저 가져오기
         User user = getCurrentUser();
@@ -183,7 +182,7 @@ public class PhotoController {
      */
     @Operation(
             summary = "모든 사진 조회",
-            description = "업로드된 모든 사진을 조회합니다."
+            description = "업로드된 모든 사진을 조회합니다. 사진이 많으면 응답이 커지므로 /api/photos/library 사용을 권장합니다."
     )
     @ApiResponses({
             @ApiResponse(
@@ -214,6 +213,98 @@ public class PhotoController {
         return ResponseEntity.ok(photoService.getMyPhotos(user.getId()));
     }
 
+    /**
+     * 사진 보관함 조회 (커서 기반 페이지네이션)
+     */
+    @Operation(
+            summary = "사진 보관함 조회 (페이지네이션)",
+            description = "내 사진을 최신 촬영순으로 한 페이지씩 조회합니다.\n\n" +
+                    "- 첫 페이지는 cursor 없이 요청하고, 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.\n" +
+                    "- size는 최대 100입니다.\n" +
+                    "- unassigned=true이면 여행에 속하지 않은 사진만 조회합니다.\n" +
+                    "- region은 지역명 앞부분 일치 (예: \"부산광역시\"), from/to는 촬영일 범위입니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "photos": [
+                                                {
+                                                  "photoId": 42,
+                                                  "url": "https://cdn.example.com/photos/a1b2.jpg",
+                                                  "thumbnailUrl": "https://cdn.example.com/thumb/a1b2.jpg",
+                                                  "takenAt": "2025-01-15T10:30:00",
+                                                  "latitude": 33.4996,
+                                                  "longitude": 126.5312,
+                                                  "region": "제주특별자치도 제주시",
+                                                  "dayId": 7
+                                                }
+                                              ],
+                                              "nextCursor": "MjAyNS0wMS0xNVQxMDozMHw0Mg",
+                                              "hasNext": true
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 커서 또는 날짜 범위",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "status": 400,
+                                              "error": "BAD_REQUEST",
+                                              "message": "잘못된 커서입니다."
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증 실패",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "status": 401,
+                                              "error": "UNAUTHORIZED",
+                                              "message": "인증이 필요합니다. JWT 토큰을 확인해주세요.",
+                                              "detail": "Full authentication is required to access this resource"
+                                            }
+                                            """
+                            )
+                    )
+            )
+    })
+    @GetMapping("/photos/library")
+    public ResponseEntity<PhotoDto.LibraryPage> getPhotoLibrary(
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "50")
+            @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "여행에 속하지 않은 사진만 조회")
+            @RequestParam(defaultValue = "false") boolean unassigned,
+            @Parameter(description = "지역명 (앞부분 일치)", example = "부산광역시")
+            @RequestParam(required = false) String region,
+            @Parameter(description = "촬영일 시작 (포함)", example = "2025-01-01")
+            @RequestParam(required = false) LocalDate from,
+            @Parameter(description = "촬영일 끝 (포함)", example = "2025-01-31")
+            @RequestParam(required = false) LocalDate to
+    ) {
+        User user = getCurrentUser();
+        return ResponseEntity.ok(photoService.getLibrary(user.getId(), cursor, size, unassigned, region, from, to));
+    }
+
     /**
      * 특정 사진 조회
      */
@@ -303,6 +394,88 @@ public class PhotoController {
         return ResponseEntity.ok(photoService.getMyMapPhotos(user.getId()));
     }
 
+    /**
+     * 지도 클러스터 조회
+     */
+    @Operation(
+            summary = "지도 클러스터 조회",
+            description = "화면에 보이는 지도 영역(남서/북동 모서리)과 줌 레벨에 맞춰 사진을 격자별로 묶어 반환합니다.\n\n" +
+                    "- zoom은 웹 지도 기준 줌 레벨(0~21, 클수록 확대)입니다.\n" +
+                    "- 각 클러스터는 사진 수, 평균 위치, 대표 사진 썸네일을 포함합니다.\n" +
+                    "- 클러스터는 최대 300개이며, 생략된 경우 truncated=true입니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "precision": 5,
+                                              "clusters": [
+                                                {
+                                                  "cell": "wy7b1",
+                                                  "count": 24,
+                                                  "latitude": 35.15841200,
+                                                  "longitude": 129.16031500,
+                                                  "samplePhotoId": 42,
+                                                  "thumbnailUrl": "https://cdn.example.com/thumb/a1b2.jpg"
+                                                }
+                                              ],
+                                              "truncated": false
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "잘못된 지도 영역",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "status": 400,
+                                              "error": "BAD_REQUEST",
+                                              "message": "지도 영역이 올바르지 않습니다."
+                                            }
+                                            """
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "인증 실패",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "status": 401,
+                                              "error": "UNAUTHORIZED",
+                                              "message": "인증이 필요합니다. JWT 토큰을 확인해주세요.",
+                                              "detail": "Full authentication is required to access this resource"
+                                            }
+                                            """
+                            )
+                    )
+            )
+    })
+    @GetMapping("/photos/map-clusters")
+    public ResponseEntity<PhotoDto.MapClusterResponse> getMapClusters(
+            @Parameter(description = "남쪽 위도", required = true, example = "35.05") @RequestParam double south,
+            @Parameter(description = "서쪽 경도", required = true, example = "128.95") @RequestParam double west,
+            @Parameter(description = "북쪽 위도", required = true, example = "35.25") @RequestParam double north,
+            @Parameter(description = "동쪽 경도", required = true, example = "129.25") @RequestParam double east,
+            @Parameter(description = "줌 레벨 (0~21)", required = true, example = "12") @RequestParam int zoom
+    ) {
+        User user = getCurrentUser();
+        return ResponseEntity.ok(photoService.getMapClusters(user.getId(), south, west, north, east, zoom));
+    }
+
     /**
      * 사진 코멘트 작성
      */
@@ -777,11 +950,9 @@ public class PhotoController {
 
     /**
      * 현재 로그인한 사용자 조회
+     * - principal의 userId로 프록시만 만듦 (조회 쿼리 없음, open-in-view가 꺼져 있어 id만 사용)
      */
     private User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new UnauthenticatedException("인증된 사용자를 찾을 수 없습니다."));
+        return userRepository.getReferenceById(AuthenticatedUser.current().userId());
     }
 }
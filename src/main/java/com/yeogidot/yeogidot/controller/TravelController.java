@@ -1,10 +1,11 @@
 package com.yeogidot.yeogidot.controller;
 
 import com.yeogidot.yeogidot.dto.TravelDto;
-import com.yeogidot.yeogidot.exception.UnauthenticatedException;
 import com.yeogidot.yeogidot.dto.TravelUpdateRequest;
 import com.yeogidot.yeogidot.entity.User;
 import com.yeogidot.yeogidot.repository.UserRepository;
+import com.yeogidot.yeogidot.security.AuthenticatedUser;
+import com.yeogidot.yeogidot.service.ShareResponseCache;
 import com.yeogidot.yeogidot.service.TravelService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,11 +16,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -31,6 +33,7 @@ import java.util.Map;
 public class TravelController {
 
     private final TravelService travelService;
+    private final ShareResponseCache shareResponseCache;
     private final UserRepository userRepository;
 
     // 여행 목록 조회
@@ -885,12 +888,9 @@ public class TravelController {
         return ResponseEntity.noContent().build();
     }
 
-    // 현재 로그인 유저
+    // 현재 로그인 유저 (principal의 userId로 프록시만 만듦, 조회 쿼리 없음, open-in-view가 꺼져 있어 id만 사용)
     private User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new UnauthenticatedException("인증된 사용자를 찾을 수 없습니다."));
+        return userRepository.getReferenceById(AuthenticatedUser.current().userId());
     }
 
     // 여행 공유 URL 조회/생성
@@ -971,7 +971,8 @@ public class TravelController {
     // 공유 URL로 여행 조회 (인증 불필요)
     @Operation(
             summary = "공유 URL로 여행 조회",
-            description = "공유 URL을 통해 여행 상세 정보를 조회합니다. 인증이 필요하지 않습니다."
+            description = "공유 URL을 통해 여행 상세 정보를 조회합니다. 인증이 필요하지 않습니다.\n\n" +
+                    "응답에 ETag 헤더가 포함되며, If-None-Match 헤더로 같은 값을 보내면 내용이 바뀌지 않은 경우 304를 반환합니다."
     )
     @ApiResponses({
             @ApiResponse(
@@ -979,6 +980,7 @@ public class TravelController {
                     description = "여행 조회 성공",
                     content = @Content(
                             mediaType = "application/json",
+                            schema = @Schema(implementation = TravelDto.DetailResponse.class),
                             examples = @ExampleObject(
                                     value = """
                                             {
@@ -1014,6 +1016,10 @@ public class TravelController {
                             )
                     )
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "변경 없음 (If-None-Match가 현재 ETag와 일치)"
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "공유 URL을 찾을 수 없음",
@@ -1032,11 +1038,25 @@ public class TravelController {
             )
     })
     @GetMapping("/share/{shareToken}")
-    public ResponseEntity<TravelDto.DetailResponse> getTravelByShareUrl(
+    public ResponseEntity<byte[]> getTravelByShareUrl(
             @Parameter(description = "공유 토큰 (URL의 마지막 부분)", required = true, example = "abc-123-def-456")
-            @PathVariable String shareToken
+            @PathVariable String shareToken,
+            WebRequest webRequest
     ) {
-        return ResponseEntity.ok(travelService.getTravelByShareToken(shareToken));
+        // 캐시된 직렬화 결과 사용 (미스일 때만 DB 조회)
+        ShareResponseCache.SharePage page = shareResponseCache.get(shareToken,
+                () -> travelService.getTravelByShareToken(shareToken));
+
+        // If-None-Match가 일치하면 304 (본문 없음)
+        if (webRequest.checkNotModified(page.eTag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(page.eTag())
+                .cacheControl(CacheControl.noCache())  // 매번 ETag로 재검증
+                .body(page.body());
     }
 
     /**
@@ -1172,4 +1192,4 @@ public class TravelController {
                 "message", "여행이 수정되었습니다."
         ));
     }
-}
\ No newline at end of file
+}
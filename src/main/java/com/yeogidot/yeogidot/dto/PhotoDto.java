@@ -3,6 +3,7 @@ package com.yeogidot.yeogidot.dto;
 import lombok.*;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 // 기본 PhotoDto (기존 코드 호환성 유지)
 @Getter
@@ -42,4 +43,55 @@ public class PhotoDto {
             private String email;
         }
     }
+
+    // 사진 보관함 항목 (목록 화면용 경량 DTO, JPQL 생성자 표현식으로 바로 조회)
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LibraryItem {
+        private Long photoId;
+        private String url;           // 원본
+        private String thumbnailUrl;  // 썸네일 (없으면 원본)
+        private LocalDateTime takenAt;
+        private BigDecimal latitude;
+        private BigDecimal longitude;
+        private String region;
+        private Long dayId;           // 소속 여행 일차 (미분류면 null)
+    }
+
+    // 지도 클러스터 (지오해시 격자 하나)
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MapCluster {
+        private String cell;           // 지오해시 격자
+        private long count;            // 격자 안 사진 수
+        private BigDecimal latitude;   // 격자 안 사진들의 평균 위치 (마커 표시 위치, 조회 영역 밖이면 경계로 당김)
+        private BigDecimal longitude;
+        private Long samplePhotoId;    // 대표 사진 (가장 최근 업로드)
+        private String thumbnailUrl;   // 대표 사진 썸네일
+    }
+
+    // 지도 클러스터 응답
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MapClusterResponse {
+        private int precision;         // 사용한 지오해시 자리수
+        private List<MapCluster> clusters;
+        private boolean truncated;     // 클러스터 수 제한으로 일부 생략됨
+    }
+
+    // 사진 보관함 페이지 (커서 기반)
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LibraryPage {
+        private List<LibraryItem> photos;
+        private String nextCursor;    // 다음 페이지 요청 시 cursor로 전달 (마지막 페이지면 null)
+        private boolean hasNext;
+    }
 }
@@ -0,0 +1,41 @@
+package com.yeogidot.yeogidot.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 여행 상세 조회용 평면 행 (여행 × 일차 × 사진 × 댓글 + 일차별 첫 일기)
+ * - JPQL 생성자 표현식으로 바로 만들어지므로 영속성 컨텍스트에 엔티티가 올라가지 않음
+ * - 일차/사진/댓글이 없으면 해당 컬럼은 null (LEFT JOIN)
+ */
+public record TravelDetailRow(
+        Long travelId,
+        Long ownerId,
+        String title,
+        String trvRegion,
+        Long representativePhotoId,
+        UUID shareToken,
+        LocalDate startDate,
+        LocalDate endDate,
+        Long dayId,
+        Integer dayNumber,
+        LocalDate date,
+        String dayRegion,
+        Long photoId,
+        String filePath,
+        String mediumPath,
+        String thumbnailPath,
+        LocalDateTime takenAt,
+        BigDecimal latitude,
+        BigDecimal longitude,
+        String region,
+        Long commentId,
+        String commentContent,
+        LocalDateTime commentCreatedAt,
+        Long logId,
+        String logContent,
+        LocalDateTime logCreatedAt
+) {
+}
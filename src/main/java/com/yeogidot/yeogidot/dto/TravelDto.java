@@ -20,7 +20,7 @@ public class TravelDto {
         private String trvRegion;
         private LocalDate startDate;
         private LocalDate endDate;
-        private String representativeImageUrl; // 대표 사진 URL
+        private String representativeImageUrl; // 대표 사진 URL (중간 크기)
     }
 
     // ===== Request 객체 =====
@@ -111,7 +111,9 @@ public class TravelDto {
     @AllArgsConstructor
     public static class PhotoDetail {
         private Long photoId;
-        private String url;
+        private String url;           // 원본
+        private String mediumUrl;     // 중간 크기 (상세 화면용)
+        private String thumbnailUrl;  // 썸네일 (목록/지도용)
         private LocalDateTime takenAt;
         private BigDecimal latitude;
         private BigDecimal longitude;
@@ -1,6 +1,7 @@
 package com.yeogidot.yeogidot.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.yeogidot.yeogidot.service.GeoHash;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -20,12 +21,16 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "photo", indexes = {
-        @Index(name = "idx_photo_day_time", columnList = "day_id, taken_at")
+        @Index(name = "idx_photo_day_time", columnList = "day_id, taken_at"),
+        @Index(name = "idx_photo_user_time", columnList = "user_id, taken_at, photo_id"),  // 보관함 커서 페이지네이션
+        @Index(name = "idx_photo_user_geohash", columnList = "user_id, geohash, latitude, longitude")  // 지도 격자 재계산/대표 사진 대체
 })
 public class Photo extends BaseTimeEntity {
 
+    // SEQUENCE(풀링) ID: 여러 행 INSERT를 JDBC 배치로 묶기 위함 (MySQL에서는 photo_seq 테이블로 동작)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "photo_seq")
+    @SequenceGenerator(name = "photo_seq", sequenceName = "photo_seq", allocationSize = 50)
     @Column(name = "photo_id")
     private Long id;
 
@@ -42,6 +47,14 @@ public class Photo extends BaseTimeEntity {
     @Column(name = "file_path", length = 2048, nullable = false)
     private String filePath;
 
+    // 중간 크기 이미지 경로 (목록/상세 화면용, 파생 이미지가 없으면 null)
+    @Column(name = "medium_path", length = 2048)
+    private String mediumPath;
+
+    // 썸네일 경로 (지도 마커/목록용, 파생 이미지가 없으면 null)
+    @Column(name = "thumbnail_path", length = 2048)
+    private String thumbnailPath;
+
     @Column(name = "original_name")
     private String originalName;
 
@@ -53,6 +66,11 @@ public class Photo extends BaseTimeEntity {
     @Column(precision = 11, scale = 8)
     private BigDecimal longitude;
 
+    // 지오해시 (위치 정보가 있을 때만, 저장/위치 수정 시 자동 계산)
+    @JsonIgnore
+    @Column(name = "geohash", length = 12)
+    private String geohash;
+
     @Column(name = "taken_at", nullable = false)
     private LocalDateTime takenAt;
 
@@ -71,6 +89,30 @@ public class Photo extends BaseTimeEntity {
         return this.filePath;
     }
 
+    // 썸네일 URL (없으면 원본으로 대체)
+    public String getThumbnailUrl() {
+        return this.thumbnailPath != null ? this.thumbnailPath : this.filePath;
+    }
+
+    // 중간 크기 URL (없으면 원본으로 대체)
+    public String getMediumUrl() {
+        return this.mediumPath != null ? this.mediumPath : this.filePath;
+    }
+
+    // 저장소에 올라간 모든 파일 경로 (원본 + 파생 이미지, 삭제 시 사용)
+    @JsonIgnore
+    public List<String> getStoredFilePaths() {
+        List<String> paths = new ArrayList<>(3);
+        paths.add(this.filePath);
+        if (this.mediumPath != null) {
+            paths.add(this.mediumPath);
+        }
+        if (this.thumbnailPath != null) {
+            paths.add(this.thumbnailPath);
+        }
+        return paths;
+    }
+
     // TravelDay 설정 편의 메서드
     public void setTravelDay(TravelDay travelDay) {
         this.travelDay = travelDay;
@@ -85,6 +127,15 @@ public class Photo extends BaseTimeEntity {
     public void updateLocation(BigDecimal latitude, BigDecimal longitude) {
         this.latitude = latitude;
         this.longitude = longitude;
+        syncGeohash();
+    }
+
+    // 지오해시 계산 (빌더로 생성된 사진은 저장 직전에 계산)
+    @PrePersist
+    void syncGeohash() {
+        this.geohash = (latitude != null && longitude != null)
+                ? GeoHash.encode(latitude.doubleValue(), longitude.doubleValue(), GeoHash.STORED_PRECISION)
+                : null;
     }
 
     // 지역 정보 수정 메서드
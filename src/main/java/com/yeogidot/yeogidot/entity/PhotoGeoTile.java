@@ -0,0 +1,59 @@
+package com.yeogidot.yeogidot.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * 지도 격자 집계 (유저별 지오해시 격자 하나)
+ * - 사진 업로드/삭제/위치 수정 시 같은 트랜잭션에서 증감 (PhotoGeoTileService)
+ * - 지도 조회는 사진 전체 대신 줌에 맞는 자리수의 격자 행만 읽음
+ * - 평균 위치 = 위도/경도 합 ÷ 사진 수 (증감만으로 유지할 수 있도록 합계를 저장)
+ * - 대표 사진이 삭제되면 sample_photo_id는 null, 조회 시 격자 안 최신 사진으로 대체
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+// PK 컬럼은 Hibernate가 이름순(cell, precision_level, user_id)으로 만들므로
+// 유저 → 자리수 → 격자 prefix 범위 조회용 키를 따로 둠 (UPSERT는 둘 중 어느 키로도 같은 행에 충돌)
+@Table(name = "photo_geo_tile", uniqueConstraints = @UniqueConstraint(
+        name = "uk_photo_geo_tile_user_cell", columnNames = {"user_id", "precision_level", "cell"}))
+@IdClass(PhotoGeoTile.Key.class)
+public class PhotoGeoTile {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "precision_level")
+    private Integer precisionLevel;
+
+    @Id
+    @Column(name = "cell", length = 12)
+    private String cell;
+
+    @Column(name = "photo_count", nullable = false)
+    private long photoCount;
+
+    @Column(name = "latitude_sum", precision = 24, scale = 8, nullable = false)
+    private BigDecimal latitudeSum;
+
+    @Column(name = "longitude_sum", precision = 25, scale = 8, nullable = false)
+    private BigDecimal longitudeSum;
+
+    @Column(name = "sample_photo_id")
+    private Long samplePhotoId;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long userId;
+        private Integer precisionLevel;
+        private String cell;
+    }
+}
@@ -0,0 +1,57 @@
+package com.yeogidot.yeogidot.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * [저장소 삭제 대기열] 엔티티
+ * - 사진/여행/계정 삭제 시 같은 트랜잭션에서 삭제할 파일 URL을 기록 (DB 삭제가 롤백되면 함께 롤백)
+ * - StorageDeletionWorker가 모아서 S3 DeleteObjects(최대 1000개)로 일괄 삭제
+ * - 실패한 항목은 attempts를 늘리고 nextAttemptAt을 지수적으로 미뤄 재시도
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "storage_deletion", indexes = {
+        @Index(name = "idx_storage_deletion_next_attempt", columnList = "next_attempt_at")
+})
+public class StorageDeletion extends BaseTimeEntity {
+
+    // SEQUENCE(풀링) ID: 여행 삭제 시 수백 건의 INSERT를 JDBC 배치로 묶기 위함
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "storage_deletion_seq")
+    @SequenceGenerator(name = "storage_deletion_seq", sequenceName = "storage_deletion_seq", allocationSize = 50)
+    @Column(name = "deletion_id")
+    private Long id;
+
+    @Column(name = "file_url", length = 2048, nullable = false)
+    private String fileUrl;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    public static StorageDeletion of(String fileUrl) {
+        return StorageDeletion.builder()
+                .fileUrl(fileUrl)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    // 삭제 실패 → 재시도 예약
+    public void retryAt(LocalDateTime nextAttemptAt, String error) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+    }
+}
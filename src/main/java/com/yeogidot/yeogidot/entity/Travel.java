@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.LinkedHashSet;
+import java.util.UUID;
 //여행 엔티티
 
 @Entity
@@ -14,7 +15,9 @@ import java.util.LinkedHashSet;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "travel")
+@Table(name = "travel", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_travel_share_token", columnNames = "share_token")
+})
 public class Travel extends BaseTimeEntity {
 
     @Id
@@ -41,8 +44,9 @@ public class Travel extends BaseTimeEntity {
     @Column(name = "representative_photo_id")
     private Long representativePhotoId;
 
-    @Column(name = "share_url")
-    private String shareUrl;
+    // 공유 토큰 (BINARY(16), 유니크 인덱스로 조회), 공유 URL은 응답 시 frontendBaseUrl과 조합
+    @Column(name = "share_token")
+    private UUID shareToken;
 
     @OneToMany(mappedBy = "travel", cascade = CascadeType.ALL, orphanRemoval = true)
     @OrderBy("date ASC")
@@ -70,9 +74,9 @@ public class Travel extends BaseTimeEntity {
         this.endDate = endDate;
     }
 
-    // 공유 URL 업데이트 메서드
-    public void updateShareUrl(String shareUrl) {
-        this.shareUrl = shareUrl;
+    // 공유 토큰 발급 메서드
+    public void assignShareToken(UUID shareToken) {
+        this.shareToken = shareToken;
     }
     
     // 여행 지역 업데이트 메서드
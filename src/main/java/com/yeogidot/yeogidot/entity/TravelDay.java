@@ -18,8 +18,10 @@ import java.util.LinkedHashSet;
 @Table(name = "travel_day")
 public class TravelDay extends BaseTimeEntity {
 
+    // SEQUENCE(풀링) ID: 여러 행 INSERT를 JDBC 배치로 묶기 위함 (MySQL에서는 travel_day_seq 테이블로 동작)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "travel_day_seq")
+    @SequenceGenerator(name = "travel_day_seq", sequenceName = "travel_day_seq", allocationSize = 50)
     @Column(name = "day_id")
     private Long id;
 
@@ -0,0 +1,64 @@
+package com.yeogidot.yeogidot.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * [업로드 세션] 엔티티
+ * - 저장소(R2)에 올릴 파일 URL을 업로드 시작 전에 기록 (PENDING)
+ * - 사진이 DB에 저장되면 COMMITTED → 파일이 Photo 행에 연결된 상태
+ * - 업로드/저장 실패(ABORTED) 또는 만료된 PENDING 세션의 파일은 UploadSessionSweeper가 정리
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "upload_session", indexes = {
+        @Index(name = "idx_upload_session_status_expires", columnList = "status, expires_at")
+})
+public class UploadSession extends BaseTimeEntity {
+
+    public enum Status {
+        PENDING, COMMITTED, ABORTED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "session_id")
+    private Long id;
+
+    // 업로드한 사용자 ID (회원 탈퇴와 무관하게 정리되도록 FK 없이 보관)
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    // 이 시각까지 커밋되지 않으면 고아 파일로 보고 정리
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // 이 세션에서 저장소에 올리는 파일 URL (원본 + 파생 이미지)
+    @ElementCollection
+    @CollectionTable(name = "upload_session_object", joinColumns = @JoinColumn(name = "session_id"))
+    @Column(name = "object_url", length = 2048, nullable = false)
+    @Builder.Default
+    private List<String> objectUrls = new ArrayList<>();
+
+    // 사진 저장 완료 → 파일은 Photo가 소유하므로 세션 목록은 비움
+    public void commit() {
+        this.status = Status.COMMITTED;
+        this.objectUrls.clear();
+    }
+
+    // 업로드/저장 실패 → 정리 대상
+    public void abort() {
+        this.status = Status.ABORTED;
+    }
+}
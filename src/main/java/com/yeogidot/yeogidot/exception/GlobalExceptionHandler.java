@@ -213,12 +213,13 @@ public class GlobalExceptionHandler {
     }
 
     /**
-     * 로그인 시도 횟수 초과 (429 Too Many Requests)
-     * - 5회 실패 시 5분간 잠금
+     * 요청 횟수 초과 (429 Too Many Requests)
+     * - 로그인 5회 실패 시 5분간 잠금
+     * - 사진 업로드 대기열 초과
      */
     @ExceptionHandler(TooManyRequestsException.class)
     public ResponseEntity<Map<String, Object>> handleTooManyRequestsException(TooManyRequestsException e) {
-        log.warn("로그인 시도 초과: {}", e.getMessage());
+        log.warn("요청 횟수 초과: {}", e.getMessage());
 
         Map<String, Object> response = new HashMap<>();
         response.put("status", 429);
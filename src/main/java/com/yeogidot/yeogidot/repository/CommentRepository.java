@@ -3,9 +3,12 @@ package com.yeogidot.yeogidot.repository;
 import com.yeogidot.yeogidot.entity.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,7 +17,33 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     Optional<Comment> findByPhotoId(Long photoId);
 
     // 회원탈퇴 시 해당 유저가 작성한 댓글 삭제 (다른 사람 사진에 단 댓글 포함)
-    @Modifying
+    // 파생 deleteBy는 엔티티를 하나씩 로드해 삭제하므로 단일 DELETE 문으로 처리
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Transactional
-    void deleteByWriterId(Long writerId);
+    @Query("DELETE FROM Comment c WHERE c.writer.id = :writerId")
+    int deleteByWriterId(@Param("writerId") Long writerId);
+
+    // 유저가 댓글을 단 사진이 속한 여행 ID 목록
+    @Query("SELECT DISTINCT d.travel.id FROM Comment c JOIN c.photo p JOIN p.travelDay d WHERE c.writer.id = :writerId")
+    List<Long> findTravelIdsByWriterId(@Param("writerId") Long writerId);
+
+    // 여행 삭제 시 여행에 속한 사진의 댓글 일괄 삭제
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.photo.id IN " +
+            "(SELECT p.id FROM Photo p WHERE p.travelDay.id IN " +
+            "(SELECT d.id FROM TravelDay d WHERE d.travel.id = :travelId))")
+    int deleteByTravelId(@Param("travelId") Long travelId);
+
+    // 일차 삭제 시 일차에 속한 사진의 댓글 일괄 삭제
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.photo.id IN " +
+            "(SELECT p.id FROM Photo p WHERE p.travelDay.id = :dayId)")
+    int deleteByTravelDayId(@Param("dayId") Long dayId);
+
+    // 회원탈퇴 시 유저의 사진 + 유저 여행에 속한 사진에 달린 댓글 일괄 삭제
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.photo.id IN " +
+            "(SELECT p.id FROM Photo p WHERE p.user.id = :userId OR p.travelDay.id IN " +
+            "(SELECT d.id FROM TravelDay d WHERE d.travel.user.id = :userId))")
+    int deleteByPhotoOwnerId(@Param("userId") Long userId);
 }
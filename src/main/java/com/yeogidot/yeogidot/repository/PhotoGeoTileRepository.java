@@ -0,0 +1,45 @@
+package com.yeogidot.yeogidot.repository;
+
+import com.yeogidot.yeogidot.entity.PhotoGeoTile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+public interface PhotoGeoTileRepository extends JpaRepository<PhotoGeoTile, PhotoGeoTile.Key> {
+
+    // 지도 클러스터: 줌에 맞는 자리수의 격자 중 영역과 겹치는 격자만 조회 (사진 수와 무관하게 격자 수만큼만 읽음)
+    // 영역을 덮는 격자 목록(GeoHash.coveringCells)을 uk_photo_geo_tile_user_cell (user_id, precision_level, cell)로 격자별 조회
+    // 격자 자체가 영역과 겹치는지로 거름 (평균 위치가 영역 밖이어도 격자 안 사진 일부가 영역에 보일 수 있음)
+    // 대표 사진이 삭제되어 비어 있으면 격자 안 최신 사진으로 대체 (idx_photo_user_geohash 범위 조회)
+    @Query(value = "SELECT t.cell AS cell, t.photo_count AS photoCount, " +
+            "t.latitude_sum / t.photo_count AS latitude, t.longitude_sum / t.photo_count AS longitude, " +
+            "COALESCE(t.sample_photo_id, (SELECT MAX(p.photo_id) FROM photo p " +
+            "WHERE p.user_id = t.user_id AND p.geohash >= t.cell AND p.geohash < CONCAT(t.cell, '{'))) AS samplePhotoId " +
+            "FROM photo_geo_tile t " +
+            "WHERE t.user_id = :userId AND t.precision_level = :precision " +
+            "AND t.cell IN (:cells) " +
+            "AND t.photo_count > 0 " +
+            "ORDER BY t.photo_count DESC " +
+            "LIMIT :limit", nativeQuery = true)
+    List<GeoCluster> findClusters(@Param("userId") Long userId,
+                                  @Param("precision") int precision,
+                                  @Param("cells") Collection<String> cells,
+                                  @Param("limit") int limit);
+
+    // 지도 클러스터 집계 결과 (격자 하나)
+    interface GeoCluster {
+        String getCell();
+
+        Long getPhotoCount();
+
+        BigDecimal getLatitude();
+
+        BigDecimal getLongitude();
+
+        Long getSamplePhotoId();
+    }
+}
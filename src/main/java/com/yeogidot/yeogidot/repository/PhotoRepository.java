@@ -1,10 +1,16 @@
 package com.yeogidot.yeogidot.repository;
 
+import com.yeogidot.yeogidot.dto.PhotoDto;
 import com.yeogidot.yeogidot.entity.Photo;
 import com.yeogidot.yeogidot.entity.TravelDay;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 public interface PhotoRepository extends JpaRepository<Photo, Long> {
@@ -19,11 +25,90 @@ public interface PhotoRepository extends JpaRepository<Photo, Long> {
 
     List<Photo> findByTravelDayIn(List<TravelDay> travelDays);
 
-    // 유저의 모든 사진 조회 (회원탈퇴 시 R2 파일 삭제용)
+    // 유저의 모든 사진 조회
     List<Photo> findByUserId(Long userId);
 
-    // 유저의 미분류 사진만 조회 (여행에 속하지 않은 사진, 회원탈퇴 시 DB 삭제용)
-    List<Photo> findByUserIdAndTravelDayIsNull(Long userId);
-
     long countByTravelDayId(Long travelDayId);
+
+    // 사진 보관함 (키셋 페이지네이션: 최신순, (takenAt, id)가 커서보다 작은 행부터 조회)
+    // idx_photo_user_time (user_id, taken_at, photo_id) 인덱스를 역순으로 읽으므로 페이지 위치와 무관하게 일정한 비용
+    @Query("SELECT new com.yeogidot.yeogidot.dto.PhotoDto$LibraryItem(" +
+            "p.id, p.filePath, COALESCE(p.thumbnailPath, p.filePath), p.takenAt, p.latitude, p.longitude, p.region, p.travelDay.id) " +
+            "FROM Photo p " +
+            "WHERE p.user.id = :userId " +
+            "AND (p.takenAt < :cursorTakenAt OR (p.takenAt = :cursorTakenAt AND p.id < :cursorId)) " +
+            "AND p.takenAt >= :from AND p.takenAt < :to " +
+            "AND (:unassignedOnly = false OR p.travelDay IS NULL) " +
+            "AND (:regionPrefix IS NULL OR p.region LIKE :regionPrefix ESCAPE '!') " +
+            "ORDER BY p.takenAt DESC, p.id DESC")
+    List<PhotoDto.LibraryItem> findLibraryPage(@Param("userId") Long userId,
+                                               @Param("cursorTakenAt") LocalDateTime cursorTakenAt,
+                                               @Param("cursorId") Long cursorId,
+                                               @Param("from") LocalDateTime from,
+                                               @Param("to") LocalDateTime to,
+                                               @Param("unassignedOnly") boolean unassignedOnly,
+                                               @Param("regionPrefix") String regionPrefix,
+                                               Pageable pageable);
+
+    // 클러스터 대표 썸네일 조회 (없으면 원본)
+    @Query("SELECT p.id AS photoId, COALESCE(p.thumbnailPath, p.filePath) AS thumbnailUrl FROM Photo p WHERE p.id IN :ids")
+    List<PhotoThumbnail> findThumbnails(@Param("ids") Collection<Long> ids);
+
+    // === 저장소 파일 경로 조회 (엔티티를 로드하지 않고 삭제 예약용 경로만) ===
+
+    @Query("SELECT p.filePath AS filePath, p.mediumPath AS mediumPath, p.thumbnailPath AS thumbnailPath " +
+            "FROM Photo p WHERE p.travelDay.id IN (SELECT d.id FROM TravelDay d WHERE d.travel.id = :travelId)")
+    List<StoredFiles> findStoredFilesByTravelId(@Param("travelId") Long travelId);
+
+    @Query("SELECT p.filePath AS filePath, p.mediumPath AS mediumPath, p.thumbnailPath AS thumbnailPath " +
+            "FROM Photo p WHERE p.travelDay.id = :dayId")
+    List<StoredFiles> findStoredFilesByTravelDayId(@Param("dayId") Long dayId);
+
+    // 유저의 사진 + 유저 여행에 속한 사진 (회원탈퇴용)
+    @Query("SELECT p.filePath AS filePath, p.mediumPath AS mediumPath, p.thumbnailPath AS thumbnailPath " +
+            "FROM Photo p WHERE p.user.id = :userId OR p.travelDay.id IN " +
+            "(SELECT d.id FROM TravelDay d WHERE d.travel.user.id = :userId)")
+    List<StoredFiles> findStoredFilesByOwnerId(@Param("userId") Long userId);
+
+    // === 일괄 삭제 (Cascade 대신 고정 개수의 DELETE 문으로 처리, 댓글을 먼저 삭제해야 함) ===
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Photo p WHERE p.travelDay.id IN (SELECT d.id FROM TravelDay d WHERE d.travel.id = :travelId)")
+    int deleteByTravelId(@Param("travelId") Long travelId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Photo p WHERE p.travelDay.id = :dayId")
+    int deleteByTravelDayId(@Param("dayId") Long dayId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Photo p WHERE p.user.id = :userId OR p.travelDay.id IN " +
+            "(SELECT d.id FROM TravelDay d WHERE d.travel.user.id = :userId)")
+    int deleteByOwnerId(@Param("userId") Long userId);
+
+    interface PhotoThumbnail {
+        Long getPhotoId();
+
+        String getThumbnailUrl();
+    }
+
+    // 사진 한 장이 저장소에 남긴 파일 경로 (원본 + 파생 이미지)
+    interface StoredFiles {
+        String getFilePath();
+
+        String getMediumPath();
+
+        String getThumbnailPath();
+
+        default List<String> paths() {
+            List<String> paths = new ArrayList<>(3);
+            paths.add(getFilePath());
+            if (getMediumPath() != null) {
+                paths.add(getMediumPath());
+            }
+            if (getThumbnailPath() != null) {
+                paths.add(getThumbnailPath());
+            }
+            return paths;
+        }
+    }
 }
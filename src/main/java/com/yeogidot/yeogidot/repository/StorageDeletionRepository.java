@@ -0,0 +1,32 @@
+package com.yeogidot.yeogidot.repository;
+
+import com.yeogidot.yeogidot.entity.StorageDeletion;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StorageDeletionRepository extends JpaRepository<StorageDeletion, Long> {
+
+    // 처리할 차례가 된 항목을 잠금 (다른 서버가 잠근 행은 건너뜀: lock.timeout -2 → SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT d FROM StorageDeletion d WHERE d.nextAttemptAt <= :now ORDER BY d.id")
+    List<StorageDeletion> lockDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 잠근 항목의 다음 시도 시각을 임대 만료 시각으로 미룸 (커밋 후 잠금이 풀려도 다른 서버가 가져가지 않음)
+    @Modifying
+    @Query("UPDATE StorageDeletion d SET d.nextAttemptAt = :leaseUntil WHERE d.id IN :ids")
+    int lease(@Param("ids") Collection<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+}
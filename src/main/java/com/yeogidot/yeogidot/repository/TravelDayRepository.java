@@ -2,6 +2,7 @@ package com.yeogidot.yeogidot.repository;
 
 import com.yeogidot.yeogidot.entity.TravelDay;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -20,4 +21,17 @@ public interface TravelDayRepository extends JpaRepository<TravelDay, Long> {
     @Query("SELECT td FROM TravelDay td LEFT JOIN FETCH td.photos WHERE td.id = :dayId")
     Optional<TravelDay> findByIdWithPhotos(@Param("dayId") Long dayId);
 
+    // === 일괄 삭제 (사진/로그를 먼저 삭제해야 함) ===
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TravelDay d WHERE d.id = :dayId")
+    int deleteByIdInBulk(@Param("dayId") Long dayId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TravelDay d WHERE d.travel.id = :travelId")
+    int deleteByTravelId(@Param("travelId") Long travelId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TravelDay d WHERE d.travel.id IN (SELECT t.id FROM Travel t WHERE t.user.id = :userId)")
+    int deleteByOwnerId(@Param("userId") Long userId);
+
 }
\ No newline at end of file
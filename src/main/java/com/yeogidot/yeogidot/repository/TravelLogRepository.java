@@ -14,4 +14,16 @@ public interface TravelLogRepository extends JpaRepository<TravelLog, Long> {
     @Modifying
     @Query("DELETE FROM TravelLog tl WHERE tl.travelDay = :travelDay")
     void deleteByTravelDay(@Param("travelDay") TravelDay travelDay);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TravelLog tl WHERE tl.travelDay.id = :dayId")
+    int deleteByTravelDayId(@Param("dayId") Long dayId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TravelLog tl WHERE tl.travelDay.id IN (SELECT d.id FROM TravelDay d WHERE d.travel.id = :travelId)")
+    int deleteByTravelId(@Param("travelId") Long travelId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TravelLog tl WHERE tl.travelDay.id IN (SELECT d.id FROM TravelDay d WHERE d.travel.user.id = :userId)")
+    int deleteByOwnerId(@Param("userId") Long userId);
 }
\ No newline at end of file
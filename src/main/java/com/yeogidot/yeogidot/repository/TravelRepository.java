@@ -1,15 +1,16 @@
 package com.yeogidot.yeogidot.repository;
 
-import com.yeogidot.yeogidot.entity.Photo;
+import com.yeogidot.yeogidot.dto.TravelDetailRow;
 import com.yeogidot.yeogidot.entity.Travel;
-import com.yeogidot.yeogidot.entity.TravelDay;
 import com.yeogidot.yeogidot.entity.User;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 // 여행 Repository
 
@@ -28,31 +29,40 @@ public interface TravelRepository extends JpaRepository<Travel, Long> {
            "WHERE t.id = :travelId")
     Optional<Travel> findByIdWithDays(@Param("travelId") Long travelId);
 
-    // Travel, TravelDay, Photo, Comment를 3단계로 fetch
-    // 1단계: Travel + TravelDays
-    @Query("SELECT DISTINCT t FROM Travel t " +
-           "LEFT JOIN FETCH t.travelDays td " +
-           "WHERE t.id = :travelId")
-    Optional<Travel> findByIdWithDetails(@Param("travelId") Long travelId);
-
-    // 2단계: TravelDays + Photos (별도 쿼리)
-    @Query("SELECT DISTINCT td FROM TravelDay td " +
-           "LEFT JOIN FETCH td.photos " +
-           "WHERE td.travel.id = :travelId")
-    List<TravelDay> findDaysWithPhotos(@Param("travelId") Long travelId);
-
-    // 3단계: Photos + Comments (별도 쿼리)
-    @Query("SELECT DISTINCT p FROM Photo p " +
-           "LEFT JOIN FETCH p.comments " +
-           "WHERE p.travelDay.travel.id = :travelId")
-    List<Photo> findPhotosWithComments(@Param("travelId") Long travelId);
-
-    // 4단계: TravelLogs (별도 쿼리)
-    @Query("SELECT DISTINCT td FROM TravelDay td " +
-           "LEFT JOIN FETCH td.travelLogs " +
-           "WHERE td.travel.id = :travelId")
-    List<TravelDay> findDaysWithLogs(@Param("travelId") Long travelId);
-
-    // 공유 URL로 여행 조회
-    Optional<Travel> findByShareUrl(String shareUrl);
+    // 상세 조회용 평면 행 SELECT (일차 → 사진 → 댓글 순서로 정렬, 일기는 일차별 첫 번째만)
+    String DETAIL_ROW_SELECT = "SELECT new com.yeogidot.yeogidot.dto.TravelDetailRow(" +
+            "t.id, t.user.id, t.title, t.trvRegion, t.representativePhotoId, t.shareToken, t.startDate, t.endDate, " +
+            "d.id, d.dayNumber, d.date, d.dayRegion, " +
+            "p.id, p.filePath, p.mediumPath, p.thumbnailPath, p.takenAt, p.latitude, p.longitude, p.region, " +
+            "c.id, c.content, c.createdDate, " +
+            "tl.id, tl.content, tl.createdDate) " +
+            "FROM Travel t " +
+            "LEFT JOIN t.travelDays d " +
+            "LEFT JOIN d.photos p " +
+            "LEFT JOIN p.comments c " +
+            "LEFT JOIN TravelLog tl ON tl.travelDay = d " +
+            "AND tl.id = (SELECT MIN(tl2.id) FROM TravelLog tl2 WHERE tl2.travelDay = d) ";
+
+    String DETAIL_ROW_ORDER = " ORDER BY d.date, d.id, p.takenAt, p.id, c.createdDate, c.id";
+
+    // 여행 상세 (단일 쿼리, 엔티티 대신 평면 행으로 조회)
+    @Query(DETAIL_ROW_SELECT + "WHERE t.id = :travelId" + DETAIL_ROW_ORDER)
+    List<TravelDetailRow> findDetailRows(@Param("travelId") Long travelId);
+
+    // 공유 토큰으로 여행 상세 (단일 쿼리, uk_travel_share_token 인덱스 사용)
+    @Query(DETAIL_ROW_SELECT + "WHERE t.shareToken = :shareToken" + DETAIL_ROW_ORDER)
+    List<TravelDetailRow> findDetailRowsByShareToken(@Param("shareToken") UUID shareToken);
+
+    // 유저의 여행 ID 목록
+    @Query("SELECT t.id FROM Travel t WHERE t.user.id = :userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
+
+    // === 일괄 삭제 (일차를 먼저 삭제해야 함) ===
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Travel t WHERE t.id = :travelId")
+    int deleteByIdInBulk(@Param("travelId") Long travelId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Travel t WHERE t.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,29 @@
+package com.yeogidot.yeogidot.repository;
+
+import com.yeogidot.yeogidot.entity.UploadSession;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSession, Long> {
+
+    // 정리 대상: 실패한 세션 + 만료된 미커밋 세션
+    @Query("SELECT s.id FROM UploadSession s " +
+            "WHERE s.status = com.yeogidot.yeogidot.entity.UploadSession.Status.ABORTED " +
+            "OR (s.status = com.yeogidot.yeogidot.entity.UploadSession.Status.PENDING AND s.expiresAt < :now) " +
+            "ORDER BY s.id")
+    List<Long> findSweepableIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 커밋된 지 오래된 세션 기록 삭제
+    @Modifying
+    @Query("DELETE FROM UploadSession s " +
+            "WHERE s.status = com.yeogidot.yeogidot.entity.UploadSession.Status.COMMITTED AND s.expiresAt < :before")
+    int deleteCommittedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,13 +1,27 @@
-package com.yeogidot.yeogidot.repository;
-
-import com.yeogidot.yeogidot.entity.User;
-import org.springframework.data.jpa.repository.JpaRepository;
-import java.util.Optional;
-
-// 사용자 Repository
-public interface UserRepository extends JpaRepository<User, Long> {
-
-    // 이메일로 사용자 조회
-    Optional<User> findByEmail(String email);
-    boolean existsByEmail(String email);
+package com.yeogidot.yeogidot.repository;
+
+import com.yeogidot.yeogidot.entity.User;
+import com.yeogidot.yeogidot.security.AuthenticatedUser;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Optional;
+
+// 사용자 Repository
+public interface UserRepository extends JpaRepository<User, Long> {
+
+    // 이메일로 사용자 조회
+    Optional<User> findByEmail(String email);
+    boolean existsByEmail(String email);
+
+    // 인증 principal 조회 (엔티티를 로드하지 않고 필요한 컬럼만)
+    @Query("SELECT new com.yeogidot.yeogidot.security.AuthenticatedUser(u.id, u.email, u.passwordChangedAt) " +
+            "FROM User u WHERE u.id = :userId")
+    Optional<AuthenticatedUser> findPrincipalById(@Param("userId") Long userId);
+
+    // 회원탈퇴 (연관 데이터를 먼저 일괄 삭제한 뒤 호출)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM User u WHERE u.id = :userId")
+    int deleteByIdInBulk(@Param("userId") Long userId);
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.yeogidot.yeogidot.security;
+
+import com.yeogidot.yeogidot.exception.UnauthenticatedException;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Instant;
+
+/**
+ * 인증된 사용자 (SecurityContext의 principal)
+ * - 필터가 PrincipalCache에서 꺼내 넣으므로, 컨트롤러는 userId를 바로 쓰고 사용자를 다시 조회하지 않음
+ * - getName()은 이메일 (Authentication.getName()과 같은 값)
+ */
+public record AuthenticatedUser(Long userId, String email, Instant passwordChangedAt) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    /**
+     * 현재 요청의 인증된 사용자
+     *
+     * @throws UnauthenticatedException 인증 정보가 없을 때 (401)
+     */
+    public static AuthenticatedUser current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser principal)) {
+            throw new UnauthenticatedException("인증이 필요합니다.");
+        }
+        return principal;
+    }
+}
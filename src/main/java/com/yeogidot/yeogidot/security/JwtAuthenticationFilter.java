@@ -1,43 +1,38 @@
 package com.yeogidot.yeogidot.security;
 
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.yeogidot.yeogidot.entity.User;
-import com.yeogidot.yeogidot.repository.UserRepository;
-
 import java.io.IOException;
-import java.time.Instant;
+import java.util.Collections;
 
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final StringRedisTemplate redisTemplate;
-    private final UserRepository userRepository;
-
-    private static final String BLACKLIST_PREFIX = "blacklist:";
+    private final TokenBlacklist tokenBlacklist;
+    private final PrincipalCache principalCache;
+    private final TokenVersionStore tokenVersionStore;
 
     /**
      * JWT 검사를 하지 않을 경로 지정
      * - /api/auth/signup, /api/auth/login, /api/auth/logout 은 토큰 불필요 → 제외
-     * - /api/auth/password (PATCH), /api/auth/account (DELETE) 는 토큰 필요 → 필터 통과
+     * - /api/auth/password (PATCH), /api/auth/account (DELETE), /api/auth/logout-all (POST) 는 토큰 필요 → 필터 통과
      */
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getRequestURI();
 
-        // 비밀번호 변경 / 회원탈퇴는 JWT 인증 필요 → 필터에서 제외하지 않음
-        if (path.equals("/api/auth/password") || path.equals("/api/auth/account")) {
+        // 비밀번호 변경 / 회원탈퇴 / 모든 기기 로그아웃은 JWT 인증 필요 → 필터에서 제외하지 않음
+        if (path.equals("/api/auth/password") || path.equals("/api/auth/account") || path.equals("/api/auth/logout-all")) {
             return false;
         }
 
@@ -56,52 +51,56 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 1. 요청 헤더에서 JWT 토큰 추출
         String token = resolveToken(request);
 
-        // 2. 토큰이 있는데 유효하지 않으면 즉시 401 반환
-        if (token != null && !jwtTokenProvider.validateToken(token)) {
-            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않은 토큰입니다.");
-            return;
-        }
-
-        // 3. 블랙리스트 토큰(로그아웃된 토큰) 차단
-        if (token != null && Boolean.TRUE.equals(redisTemplate.hasKey(BLACKLIST_PREFIX + token))) {
-            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "이미 로그아웃된 토큰입니다.");
-            return;
-        }
-
-        // 4. passwordChangedAt 검증 — 비밀번호 변경 이전에 발급된 토큰 거부
-        //    (모든 기기에서 로그아웃 효과)
         if (token != null) {
+            // 2. 서명/만료 검증은 여기서 한 번만, 이후 단계는 검증된 클레임을 사용
+            //    토큰이 있는데 유효하지 않으면 즉시 401 반환
+            JwtClaims claims;
             try {
-                String email = jwtTokenProvider.getEmail(token);
-                User user = userRepository.findByEmail(email).orElse(null);
-                if (user != null) {
-                    Instant issuedAt = jwtTokenProvider.getIssuedAt(token);
-                    if (issuedAt.isBefore(user.getPasswordChangedAt())) {
-                        response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "비밀번호가 변경되어 재로그인이 필요합니다.");
-                        return;
-                    }
-                }
-            } catch (Exception e) {
+                claims = jwtTokenProvider.parse(token);
+            } catch (JwtException | IllegalArgumentException e) {
                 response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않은 토큰입니다.");
                 return;
             }
-        }
+            request.setAttribute(JwtClaims.REQUEST_ATTRIBUTE, claims);
 
-        // 5. 토큰이 유효하면 인증 처리
-        //    회원탈퇴 후 만료되지 않은 토큰으로 요청 시 DB에 유저가 없어
-        //    UsernameNotFoundException 발생 → 필터 레이어라 @RestControllerAdvice 미적용
-        //    직접 catch해서 401 반환
-        if (token != null) {
-            try {
-                Authentication auth = jwtTokenProvider.getAuthentication(token);
-                SecurityContextHolder.getContext().setAuthentication(auth);
-            } catch (UsernameNotFoundException e) {
+            // 3. 블랙리스트 토큰(로그아웃된 토큰) 차단
+            //    폐기되지 않은 토큰은 서버 메모리만 확인 (Redis 조회 없음)
+            if (tokenBlacklist.isRevoked(claims)) {
+                response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "이미 로그아웃된 토큰입니다.");
+                return;
+            }
+
+            // 4. 사용자 조회 (PrincipalCache, 캐시 적중 시 DB 조회 없음)
+            //    회원탈퇴 후 만료되지 않은 토큰으로 요청 시 사용자가 없음
+            //    → 필터 레이어라 @RestControllerAdvice 미적용, 직접 401 반환
+            AuthenticatedUser principal = claims.userId() != null
+                    ? principalCache.get(claims.userId()).orElse(null)
+                    : null;
+            if (principal == null) {
                 response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "존재하지 않는 사용자입니다.");
                 return;
             }
+
+            // 5. passwordChangedAt 검증 — 비밀번호 변경 이전에 발급된 토큰 거부
+            //    (모든 기기에서 로그아웃 효과)
+            if (claims.issuedAt().isBefore(principal.passwordChangedAt())) {
+                response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "비밀번호가 변경되어 재로그인이 필요합니다.");
+                return;
+            }
+
+            // 6. 토큰 버전 검증 — 모든 기기 로그아웃/비밀번호 변경/탈퇴 이전에 발급된 토큰 거부
+            //    (서버 메모리의 정수 비교, 복사본이 없을 때만 Redis 조회)
+            if (!tokenVersionStore.isCurrent(principal.userId(), claims.tokenVersion())) {
+                response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "로그아웃된 토큰입니다. 다시 로그인해주세요.");
+                return;
+            }
+
+            // 인증 처리 (principal에 userId가 있으므로 컨트롤러는 사용자를 다시 조회하지 않음)
+            Authentication auth = new UsernamePasswordAuthenticationToken(principal, "", Collections.emptyList());
+            SecurityContextHolder.getContext().setAuthentication(auth);
         }
 
-        // 6. 다음 필터로 진행
+        // 7. 다음 필터로 진행
         filterChain.doFilter(request, response);
     }
 
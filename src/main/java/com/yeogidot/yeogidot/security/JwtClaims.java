@@ -0,0 +1,20 @@
+package com.yeogidot.yeogidot.security;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 JWT 클레임 (불변)
+ * - 요청마다 JwtTokenProvider.parse로 한 번만 만들고, 필터 안에서는 이 값을 넘겨 재파싱하지 않음
+ * - 필터가 요청 속성(REQUEST_ATTRIBUTE)에도 넣어두므로 같은 요청의 다른 곳에서 꺼내 쓸 수 있음
+ * - tokenId: 토큰 식별자 (jti, jti 없이 발급된 이전 토큰은 토큰 문자열 그대로)
+ * - tokenVersion: 발급 당시 유저 토큰 버전 ("ver", 없으면 0)
+ */
+public record JwtClaims(String tokenId, Long userId, long tokenVersion, String email, Instant issuedAt, Instant expiration) {
+
+    public static final String REQUEST_ATTRIBUTE = JwtClaims.class.getName();
+
+    // 남은 만료 시간 (ms)
+    public long remainingMillis() {
+        return expiration.toEpochMilli() - System.currentTimeMillis();
+    }
+}
@@ -3,21 +3,15 @@ package com.yeogidot.yeogidot.security;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
-import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
-@RequiredArgsConstructor
 public class JwtTokenProvider {
 
     @Value("${jwt.secret}")
@@ -26,68 +20,52 @@ public class JwtTokenProvider {
     @Value("${jwt.expiration}")
     private long validityInMilliseconds;
 
-    private final UserDetailsService userDetailsService; // DB에서 유저 정보 찾아오는 친구
-
     private Key key;
 
+    // 서명 키가 고정이므로 한 번만 만들어 재사용 (JwtParser는 불변 → 여러 스레드에서 공유 가능)
+    private JwtParser parser;
+
     @PostConstruct
     protected void init() {
         byte[] keyBytes = Base64.getDecoder().decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     // 토큰 생성
-    public String createToken(Long userId, String email) {
+    public String createToken(Long userId, String email, long tokenVersion) {
         Claims claims = Jwts.claims().setSubject(email);
         claims.put("userId", userId);
+        claims.put("ver", tokenVersion);  // 모든 기기 로그아웃 시 이전 버전 토큰 거부 (TokenVersionStore)
 
         Date now = new Date();
         Date validity = new Date(now.getTime() + validityInMilliseconds);
 
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())  // jti: 로그아웃 시 토큰 전체 대신 이 값으로 폐기 등록
                 .setIssuedAt(now)
                 .setExpiration(validity)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    //  토큰에서 인증 정보 조회
-    public Authentication getAuthentication(String token) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(this.getEmail(token));
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
-    }
-
-    // 토큰에서 회원 정보 추출
-    public String getEmail(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(token)
-                .getBody().getSubject();
-    }
-
-    // 토큰 유효성 검사
-    public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
-    }
-
-    // 토큰 남은 만료 시간 반환 (ms)
-    public long getExpiration(String token) {
-        Date expiration = Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(token)
-                .getBody().getExpiration();
-        return expiration.getTime() - System.currentTimeMillis();
-    }
-
-    // 토큰 발급 시각(iat) 반환
-    public Instant getIssuedAt(String token) {
-        Date issuedAt = Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(token)
-                .getBody().getIssuedAt();
-        return issuedAt.toInstant();
+    /**
+     * 토큰 파싱 + 서명/만료 검증 (요청당 한 번)
+     *
+     * @throws JwtException             서명 불일치, 만료, 형식 오류
+     * @throws IllegalArgumentException 빈 토큰
+     */
+    public JwtClaims parse(String token) {
+        Claims body = parser.parseClaimsJws(token).getBody();
+        Number userId = body.get("userId", Number.class);
+        Number version = body.get("ver", Number.class);
+        return new JwtClaims(
+                body.getId() != null ? body.getId() : token,
+                userId != null ? userId.longValue() : null,
+                version != null ? version.longValue() : 0,
+                body.getSubject(),
+                body.getIssuedAt().toInstant(),
+                body.getExpiration().toInstant());
     }
-}
\ No newline at end of file
+}
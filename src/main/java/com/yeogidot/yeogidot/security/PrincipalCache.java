@@ -0,0 +1,81 @@
+package com.yeogidot.yeogidot.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yeogidot.yeogidot.repository.UserRepository;
+import com.yeogidot.yeogidot.service.UserChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 인증 principal 캐시 (userId → userId, email, passwordChangedAt)
+ * - 인증 필터가 요청마다 사용자를 조회하지 않도록 서버 내 Caffeine에 짧게 보관
+ * - 비밀번호 변경/회원탈퇴는 커밋 후 즉시 제거하고, Pub/Sub으로 다른 서버에도 전달
+ * - Redis 장애로 메시지를 놓쳐도 TTL이 지나면 다시 조회되므로 지연 범위는 TTL 이내
+ */
+@Slf4j
+@Component
+public class PrincipalCache {
+
+    private static final String INVALIDATE_CHANNEL = "auth:principal:invalidate";
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<Long, AuthenticatedUser> cache;
+
+    public PrincipalCache(
+            UserRepository userRepository,
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${auth.principal-cache.max-size:10000}") long maxSize,
+            @Value("${auth.principal-cache.ttl:PT30S}") Duration ttl
+    ) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+
+        // 다른 서버(자기 자신 포함)의 무효화 메시지 → 해당 사용자 제거
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                cache.invalidate(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+            } catch (NumberFormatException e) {
+                log.warn("⚠️ principal 캐시 무효화 메시지 형식 오류: {}", new String(message.getBody(), StandardCharsets.UTF_8));
+            }
+        }, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * 사용자 조회 (없으면 DB에서 3개 컬럼만 조회해 저장)
+     * - 탈퇴한 사용자는 저장하지 않으므로 빈 값
+     * - 같은 사용자 동시 요청은 하나의 조회로 합쳐짐 (Caffeine 키 단위 잠금)
+     */
+    public Optional<AuthenticatedUser> get(Long userId) {
+        return Optional.ofNullable(cache.get(userId, id -> userRepository.findPrincipalById(id).orElse(null)));
+    }
+
+    /**
+     * 비밀번호 변경/회원탈퇴 커밋 후 무효화 (트랜잭션이 없으면 즉시 실행)
+     * - 로드 중인 항목을 지우면 로드가 끝날 때까지 기다렸다가 지우므로 변경 전 값이 남지 않음
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        cache.invalidate(event.userId());
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.valueOf(event.userId()));
+        } catch (Exception e) {
+            log.warn("⚠️ principal 캐시 무효화 전파 실패 - userId: {} - {}", event.userId(), e.getMessage());
+        }
+    }
+}
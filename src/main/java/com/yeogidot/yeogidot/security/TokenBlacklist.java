@@ -0,0 +1,142 @@
+package com.yeogidot.yeogidot.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그아웃(폐기)된 토큰 목록
+ * - Redis "blacklist:{tokenId}" (값 = 토큰 만료 시각 ms, TTL = 남은 만료 시간)가 원본
+ *   tokenId는 jti(UUID)이므로 토큰 전체 대신 36바이트만 저장 (jti 없는 이전 토큰은 토큰 문자열 그대로)
+ * - 정렬 집합 "blacklist:index" (member = tokenId, score = 만료 시각 ms)로 만료 전 폐기 목록을 색인
+ *   → 동기화는 키 공간 SCAN 없이 색인의 만료 전 구간만 읽고, 만료된 구간은 잘라냄
+ * - 서버마다 만료 전 폐기 토큰 전체를 메모리에 보관 (폐기 수는 로그아웃 횟수 × 토큰 수명으로 제한됨)
+ *   → 폐기되지 않은 토큰(대부분의 요청)은 네트워크 조회 없이 판정
+ * - 폐기 시 Pub/Sub으로 모든 서버에 전달, 메시지를 놓친 경우에 대비해 주기적으로 Redis 전체와 다시 맞춤
+ * - 아직 Redis와 한 번도 맞추지 못했으면(시작 직후 Redis 장애) 예전처럼 Redis에 직접 확인
+ * - jti 없는 이전 토큰은 색인 도입 전에 폐기되었을 수 있으므로 항상 Redis에 직접 확인 (토큰 수명이 지나면 사라짐)
+ */
+@Slf4j
+@Component
+public class TokenBlacklist {
+
+    private static final String KEY_PREFIX = "blacklist:";
+    private static final String INDEX_KEY = "blacklist:index";
+    private static final String REVOKE_CHANNEL = "auth:blacklist:revoke";
+    private static final char FIELD_SEPARATOR = '|';
+    private static final int PAGE_SIZE = 1000;
+
+    private final StringRedisTemplate redisTemplate;
+    // tokenId → 토큰 만료 시각 (epoch ms)
+    private final ConcurrentHashMap<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile boolean synced;
+
+    public TokenBlacklist(StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+
+        // 다른 서버(자기 자신 포함)의 폐기 메시지 → 메모리에 추가
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int separator = body.lastIndexOf(FIELD_SEPARATOR);
+            try {
+                revoked.put(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+            } catch (IndexOutOfBoundsException | NumberFormatException e) {
+                log.warn("⚠️ 토큰 폐기 메시지 형식 오류: {}", body);
+            }
+        }, new ChannelTopic(REVOKE_CHANNEL));
+    }
+
+    /**
+     * 토큰 폐기 (이미 만료된 토큰은 무시)
+     */
+    public void revoke(JwtClaims claims) {
+        long remaining = claims.remainingMillis();
+        if (remaining <= 0) {
+            return;
+        }
+        long expiresAt = claims.expiration().toEpochMilli();
+        revoked.put(claims.tokenId(), expiresAt);
+
+        redisTemplate.opsForValue().set(KEY_PREFIX + claims.tokenId(), String.valueOf(expiresAt),
+                remaining, TimeUnit.MILLISECONDS);
+        redisTemplate.opsForZSet().add(INDEX_KEY, claims.tokenId(), expiresAt);
+        try {
+            redisTemplate.convertAndSend(REVOKE_CHANNEL, claims.tokenId() + FIELD_SEPARATOR + expiresAt);
+        } catch (Exception e) {
+            // 다른 서버는 다음 동기화 때 반영
+            log.warn("⚠️ 토큰 폐기 전파 실패 - {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 폐기된 토큰인지 확인 (동기화 이후에는 메모리만 확인, jti 없는 이전 토큰은 Redis 확인)
+     */
+    public boolean isRevoked(JwtClaims claims) {
+        Long expiresAt = revoked.get(claims.tokenId());
+        if (expiresAt != null) {
+            return expiresAt > System.currentTimeMillis();
+        }
+        if (synced && !isLegacy(claims)) {
+            return false;
+        }
+        return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + claims.tokenId()));
+    }
+
+    // jti 없이 발급된 이전 토큰 (tokenId가 JWT 문자열이라 '.'을 포함, jti는 UUID)
+    private static boolean isLegacy(JwtClaims claims) {
+        return claims.tokenId().indexOf('.') >= 0;
+    }
+
+    /**
+     * Redis 폐기 색인과 다시 맞추고 만료된 항목 제거 (시작 시 + 주기적으로)
+     * - ZREMRANGEBYSCORE로 만료된 색인을 잘라낸 뒤, 만료 전 구간만 ZRANGEBYSCORE로 나눠 읽음
+     */
+    @Scheduled(fixedDelayString = "${auth.blacklist.resync-interval:PT1M}")
+    public void resync() {
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+
+        try {
+            ZSetOperations<String, String> index = redisTemplate.opsForZSet();
+            index.removeRangeByScore(INDEX_KEY, Double.NEGATIVE_INFINITY, now);
+
+            // 점수는 정수(ms)이므로 now + 1부터 = now 초과
+            Map<String, Long> loaded = new HashMap<>();
+            for (long offset = 0; ; offset += PAGE_SIZE) {
+                Set<ZSetOperations.TypedTuple<String>> page = index.rangeByScoreWithScores(
+                        INDEX_KEY, now + 1, Double.POSITIVE_INFINITY, offset, PAGE_SIZE);
+                if (page == null || page.isEmpty()) {
+                    break;
+                }
+                for (ZSetOperations.TypedTuple<String> entry : page) {
+                    if (entry.getValue() != null && entry.getScore() != null) {
+                        loaded.put(entry.getValue(), entry.getScore().longValue());
+                    }
+                }
+                if (page.size() < PAGE_SIZE) {
+                    break;
+                }
+            }
+
+            revoked.putAll(loaded);
+            if (!synced) {
+                log.info("✅ 토큰 폐기 목록 동기화 완료: {}건", loaded.size());
+            }
+            synced = true;
+        } catch (Exception e) {
+            // 기존 메모리 목록 + Pub/Sub으로 계속 판정, 다음 주기에 다시 시도
+            log.warn("⚠️ 토큰 폐기 목록 동기화 실패 - {}", e.getMessage());
+        }
+    }
+}
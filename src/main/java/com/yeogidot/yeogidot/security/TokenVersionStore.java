@@ -0,0 +1,122 @@
+package com.yeogidot.yeogidot.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yeogidot.yeogidot.service.UserChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 유저별 토큰 버전 (모든 기기 로그아웃용)
+ * - 토큰 발급 시 현재 버전을 "ver" 클레임에 넣고, 검증 시 토큰 버전이 현재 버전보다 낮으면 거부
+ * - 모든 기기 로그아웃 = Redis INCR 한 번 (토큰마다 폐기 항목을 쓰지 않음)
+ * - Redis "auth:token-version:{userId}"가 원본, 서버마다 메모리에 복사본을 두고 Pub/Sub으로 갱신
+ *   → 검증은 메모리의 정수 비교 (복사본이 없을 때만 Redis 조회)
+ * - 토큰 버전이 복사본보다 높으면 복사본이 오래된 것이므로 Redis에서 다시 읽음
+ */
+@Slf4j
+@Component
+public class TokenVersionStore {
+
+    private static final String KEY_PREFIX = "auth:token-version:";
+    private static final String BUMP_CHANNEL = "auth:token-version";
+    private static final char FIELD_SEPARATOR = '|';
+
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<Long, Long> versions;
+
+    public TokenVersionStore(
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${auth.token-version.local-max-size:100000}") long localMaxSize,
+            @Value("${auth.token-version.local-ttl:PT10M}") Duration localTtl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .build();
+
+        // 다른 서버(자기 자신 포함)의 버전 증가 메시지 → 복사본 갱신
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int separator = body.indexOf(FIELD_SEPARATOR);
+            try {
+                remember(Long.valueOf(body.substring(0, separator)), Long.parseLong(body.substring(separator + 1)));
+            } catch (IndexOutOfBoundsException | NumberFormatException e) {
+                log.warn("⚠️ 토큰 버전 메시지 형식 오류: {}", body);
+            }
+        }, new ChannelTopic(BUMP_CHANNEL));
+    }
+
+    /**
+     * 현재 버전 (토큰 발급 시 사용, 한 번도 올린 적 없으면 0)
+     */
+    public long current(Long userId) {
+        Long cached = versions.getIfPresent(userId);
+        return cached != null ? cached : load(userId);
+    }
+
+    /**
+     * 토큰 버전이 현재 버전인지 확인 (로그아웃 이전 발급 토큰이면 false)
+     * - Redis 장애로 현재 버전을 알 수 없으면 통과 (비밀번호 변경은 passwordChangedAt으로 별도 검증)
+     */
+    public boolean isCurrent(Long userId, long tokenVersion) {
+        Long cached = versions.getIfPresent(userId);
+        if (cached == null || tokenVersion > cached) {
+            try {
+                cached = load(userId);
+            } catch (Exception e) {
+                log.warn("⚠️ 토큰 버전 조회 실패 (검증 생략) - userId: {} - {}", userId, e.getMessage());
+                return true;
+            }
+        }
+        return tokenVersion >= cached;
+    }
+
+    /**
+     * 버전 증가 → 이전에 발급된 모든 토큰 무효화
+     */
+    public long bump(Long userId) {
+        Long version = redisTemplate.opsForValue().increment(KEY_PREFIX + userId);
+        long bumped = remember(userId, version != null ? version : 0);
+        try {
+            redisTemplate.convertAndSend(BUMP_CHANNEL, String.valueOf(userId) + FIELD_SEPARATOR + bumped);
+        } catch (Exception e) {
+            // 다른 서버는 복사본 TTL이 지나면 Redis에서 다시 읽음
+            log.warn("⚠️ 토큰 버전 전파 실패 - userId: {} - {}", userId, e.getMessage());
+        }
+        return bumped;
+    }
+
+    /**
+     * 비밀번호 변경/회원탈퇴 커밋 후 기존 토큰 전체 무효화 (트랜잭션이 없으면 즉시 실행)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        try {
+            bump(event.userId());
+        } catch (Exception e) {
+            // 비밀번호 변경은 passwordChangedAt, 탈퇴는 사용자 없음으로 계속 거부됨
+            log.warn("⚠️ 토큰 버전 증가 실패 - userId: {} - {}", event.userId(), e.getMessage());
+        }
+    }
+
+    private long load(Long userId) {
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+        return remember(userId, value != null ? Long.parseLong(value) : 0);
+    }
+
+    // 메시지 순서가 뒤바뀌어도 낮은 버전으로 되돌아가지 않도록 더 높은 값만 반영
+    private long remember(Long userId, long version) {
+        return versions.asMap().merge(userId, version, Math::max);
+    }
+}
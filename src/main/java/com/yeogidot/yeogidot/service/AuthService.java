@@ -5,26 +5,29 @@ import com.yeogidot.yeogidot.dto.DeleteAccountRequest;
 import com.yeogidot.yeogidot.dto.LoginRequest;
 import com.yeogidot.yeogidot.dto.SignupRequest;
 import com.yeogidot.yeogidot.exception.TooManyRequestsException;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import java.util.concurrent.TimeUnit;
 
-import com.yeogidot.yeogidot.entity.Photo;
-import com.yeogidot.yeogidot.entity.Travel;
 import com.yeogidot.yeogidot.entity.User;
 
 import com.yeogidot.yeogidot.repository.CommentRepository;
 import com.yeogidot.yeogidot.repository.PhotoRepository;
+import com.yeogidot.yeogidot.repository.TravelDayRepository;
+import com.yeogidot.yeogidot.repository.TravelLogRepository;
 import com.yeogidot.yeogidot.repository.TravelRepository;
 import com.yeogidot.yeogidot.repository.UserRepository;
 
 import com.yeogidot.yeogidot.security.JwtTokenProvider;
+import com.yeogidot.yeogidot.security.TokenBlacklist;
+import com.yeogidot.yeogidot.security.TokenVersionStore;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -35,16 +38,22 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenBlacklist tokenBlacklist;
+    private final TokenVersionStore tokenVersionStore;
     private final LoginAttemptService loginAttemptService;
-    private final StringRedisTemplate redisTemplate;
+    private final RateLimiter rateLimiter;
     private final PhotoRepository photoRepository;
     private final TravelRepository travelRepository;
+    private final TravelDayRepository travelDayRepository;
+    private final TravelLogRepository travelLogRepository;
     private final CommentRepository commentRepository;
-    private final GcsService gcsService;
+    private final StorageDeletionService storageDeletionService;
+    private final PhotoGeoTileService photoGeoTileService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    private static final String BLACKLIST_PREFIX = "blacklist:";
     private static final String SIGNUP_IP_PREFIX = "signup_ip:";
     private static final int SIGNUP_LIMIT_PER_HOUR = 10;
+    private static final Duration SIGNUP_WINDOW = Duration.ofHours(1);
 
     @Transactional
     public void signup(SignupRequest request, String clientIp) {
@@ -78,27 +87,24 @@ public class AuthService {
     }
 
     /**
-     * 로그아웃 - 토큰을 Redis 블랙리스트에 등록 (TTL = 토큰 남은 만료 시간)
+     * 로그아웃 - 토큰을 폐기 목록에 등록 (jti 기준, TTL = 토큰 남은 만료 시간)
      */
     public void logout(String token) {
-        long expiration = jwtTokenProvider.getExpiration(token);
-        if (expiration > 0) {
-            redisTemplate.opsForValue().set(
-                    BLACKLIST_PREFIX + token,
-                    "logout",
-                    expiration,
-                    TimeUnit.MILLISECONDS
-            );
-        }
+        tokenBlacklist.revoke(jwtTokenProvider.parse(token));
     }
 
-    public boolean isBlacklisted(String token) {
-        return Boolean.TRUE.equals(redisTemplate.hasKey(BLACKLIST_PREFIX + token));
+    /**
+     * 모든 기기 로그아웃 - 유저 토큰 버전 증가 (이전에 발급된 토큰 전체 거부, Redis 쓰기 한 번)
+     */
+    public void logoutAll(Long userId) {
+        long version = tokenVersionStore.bump(userId);
+        log.info("모든 기기 로그아웃 - userId: {}, 토큰 버전: {}", userId, version);
     }
 
     @Transactional
     public String login(LoginRequest request, String clientIp) {
-        if (loginAttemptService.isBlocked(request.getEmail(), clientIp)) {
+        // 한도 확인과 시도 기록을 한 번에 (성공하면 loginSucceeded에서 초기화)
+        if (!loginAttemptService.tryAttempt(request.getEmail(), clientIp)) {
             throw new TooManyRequestsException("로그인 시도가 너무 많습니다. 5분 후 다시 시도해주세요.");
         }
 
@@ -114,7 +120,7 @@ public class AuthService {
         }
 
         loginAttemptService.loginSucceeded(request.getEmail(), clientIp);
-        return jwtTokenProvider.createToken(user.getId(), user.getEmail());
+        return jwtTokenProvider.createToken(user.getId(), user.getEmail(), tokenVersionStore.current(user.getId()));
     }
 
     /**
@@ -138,6 +144,7 @@ public class AuthService {
         }
 
         user.updatePassword(passwordEncoder.encode(request.getNew_password()));
+        eventPublisher.publishEvent(new UserChangedEvent(userId));  // 커밋 후 principal 캐시 무효화 + 토큰 버전 증가
         log.info("비밀번호 변경 완료 (passwordChangedAt 갱신됨, 기존 토큰 전체 무효화) - userId: {}", userId);
     }
 
@@ -145,17 +152,16 @@ public class AuthService {
      * 회원탈퇴
      *
      * 삭제 순서 (FK 제약 조건 위반 방지):
-     * 1. R2 스토리지 사진 파일 삭제
-     * 2. 내가 작성한 댓글 삭제 (Comment.writer_id → User FK 위반 방지)
-     * 3. 여행 삭제 (cascade → TravelDay → Photo, TravelLog)
-     * 4. 미분류 사진 DB 삭제
+     * 1. R2 스토리지 사진 파일 삭제 예약
+     * 2. 내가 작성한 댓글 + 내 사진에 달린 댓글 삭제 (Comment.writer_id → User FK 위반 방지)
+     * 3. 사진 삭제 (여행 사진 + 미분류 사진)
+     * 4. 여행 일기 → 일차 → 여행 삭제
      * 5. 유저 삭제
-     * 6. 토큰 Redis 블랙리스트 등록 (탈퇴 후 기존 토큰 즉시 무효화)
-     *
-     * @param token 탈퇴 요청에 사용된 JWT 토큰 (null이면 블랙리스트 등록 건너뜀)
+     * 1~5는 JPQL 일괄 삭제 (데이터 양과 무관하게 고정 개수의 SQL)
+     * 기존 토큰은 커밋 후 토큰 버전 증가로 전부 무효화 (UserChangedEvent → TokenVersionStore)
      */
     @Transactional
-    public void deleteAccount(Long userId, DeleteAccountRequest request, String token) {
+    public void deleteAccount(Long userId, DeleteAccountRequest request) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
 
@@ -163,47 +169,44 @@ public class AuthService {
             throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
         }
 
-        // 1. R2 스토리지 사진 파일 삭제 (DB 삭제는 cascade에 맡김)
-        List<Photo> allPhotos = photoRepository.findByUserId(userId);
-        for (Photo photo : allPhotos) {
-            try {
-                gcsService.deleteFile(photo.getFilePath());
-                log.info("R2 사진 삭제 완료 - photoId: {}", photo.getId());
-            } catch (Exception e) {
-                log.warn("R2 사진 삭제 실패 (DB 삭제는 계속 진행) - photoId: {}, error: {}", photo.getId(), e.getMessage());
-            }
-        }
+        // 1. R2 스토리지 사진 파일 삭제 예약 (같은 트랜잭션, 실제 삭제는 StorageDeletionWorker)
+        //    엔티티를 로드하지 않고 파일 경로만 조회
+        storageDeletionService.enqueueStoredFiles(photoRepository.findStoredFilesByOwnerId(userId));
 
-        // 2. 내가 다른 사람 사진에 작성한 댓글 삭제 (writer_id = userId)
-        commentRepository.deleteByWriterId(userId);
-        log.info("작성한 댓글 삭제 완료 - userId: {}", userId);
+        // 공유 페이지 캐시 무효화 대상: 내 여행 + 내가 댓글을 단 여행 (커밋 후 무효화)
+        List<Long> changedTravelIds = new ArrayList<>(travelRepository.findIdsByUserId(userId));
+        changedTravelIds.addAll(commentRepository.findTravelIdsByWriterId(userId));
 
-        // 3. 여행 전체 삭제 (cascade → TravelDay → Photo, TravelLog)
-        List<Travel> travels = travelRepository.findAllByUserOrderByIdDesc(user);
-        travelRepository.deleteAll(travels);
-        log.info("여행 삭제 완료 - userId: {}, 여행 수: {}", userId, travels.size());
+        // 2~5. DB는 자식 → 부모 순서로 일괄 삭제 (데이터 양과 무관하게 고정 개수의 DELETE 문)
+        //      Cascade는 모든 여행/일차/사진/댓글을 로드해 한 건씩 DELETE하므로 사용하지 않음
+        // 2. 내가 작성한 댓글 (다른 사람 사진 포함) + 내 사진에 달린 댓글
+        int comments = commentRepository.deleteByWriterId(userId)
+                + commentRepository.deleteByPhotoOwnerId(userId);
+        log.info("댓글 삭제 완료 - userId: {}, 댓글 수: {}", userId, comments);
 
-        // 4. 미분류 사진(travelDay=null) DB 삭제
-        List<Photo> unassignedPhotos = photoRepository.findByUserIdAndTravelDayIsNull(userId);
-        photoRepository.deleteAll(unassignedPhotos);
-        log.info("미분류 사진 삭제 완료 - userId: {}, 사진 수: {}", userId, unassignedPhotos.size());
+        // 3. 사진 (여행 사진 + 미분류 사진), 지도 격자는 사진 삭제 전에 차감
+        photoGeoTileService.removeByOwnerId(userId);
+        int photos = photoRepository.deleteByOwnerId(userId);
+        log.info("사진 삭제 완료 - userId: {}, 사진 수: {}", userId, photos);
+
+        // 4. 여행 일기 → 일차 → 여행
+        travelLogRepository.deleteByOwnerId(userId);
+        travelDayRepository.deleteByOwnerId(userId);
+        int travels = travelRepository.deleteByUserId(userId);
+        log.info("여행 삭제 완료 - userId: {}, 여행 수: {}", userId, travels);
 
         // 5. 유저 삭제
-        userRepository.delete(user);
+        userRepository.deleteByIdInBulk(userId);
+        eventPublisher.publishEvent(new UserChangedEvent(userId));  // 커밋 후 principal 캐시 무효화 + 토큰 버전 증가
         log.info("회원탈퇴 완료 - userId: {}, email: {}", userId, user.getEmail());
 
-        // 6. 기존 토큰 Redis 블랙리스트 등록 (탈퇴 후 즉시 무효화)
-        //    @Transactional 바깥에서 실행되도록 메서드 마지막에 위치
-        //    DB 삭제가 커밋된 이후 블랙리스트에 올라가므로 순서 보장
-        if (token != null) {
-            logout(token);
-            log.info("탈퇴 토큰 블랙리스트 등록 완료 - userId: {}", userId);
-        }
+        changedTravelIds.stream().distinct()
+                .forEach(travelId -> eventPublisher.publishEvent(new TravelChangedEvent(travelId)));
     }
     /**
-     * IP별 회원가입 시도 제한 (1시간 3회)
-     * - Redis에 IP를 키로 카운터 저장, TTL 1시간
-     * - 한도 초과 시 TooManyRequestsException
+     * IP별 회원가입 시도 제한 (최근 1시간 SIGNUP_LIMIT_PER_HOUR회)
+     * - RateLimiter 슬라이딩 윈도우, 판정과 기록을 Redis 왕복 한 번으로 처리
+     * - 한도 초과 시 TooManyRequestsException (초과 시도는 기록하지 않음)
      */
     private void checkSignupRateLimit(String clientIp) {
         if (clientIp == null || clientIp.isBlank()) {
@@ -211,19 +214,12 @@ public class AuthService {
             return;
         }
 
-        String key = SIGNUP_IP_PREFIX + clientIp;
-        Long count = redisTemplate.opsForValue().increment(key);
-
-        // 첫 번째 요청일 때만 TTL 설정
-        if (count == 1) {
-            redisTemplate.expire(key, 1, TimeUnit.HOURS);
-        }
-
-        if (count > SIGNUP_LIMIT_PER_HOUR) {
-            log.warn("회원가입 횟수 초과 차단 - IP: {}, 시도 수: {}", clientIp, count);
+        RateLimiter.Decision decision = rateLimiter.tryAcquire(SIGNUP_IP_PREFIX + clientIp, SIGNUP_LIMIT_PER_HOUR, SIGNUP_WINDOW);
+        if (!decision.allowed()) {
+            log.warn("회원가입 횟수 초과 차단 - IP: {}, {}초 후 해제", clientIp, decision.retryAfter().toSeconds());
             throw new TooManyRequestsException("회원가입 시도가 너무 많습니다. 1시간 후 다시 시도해주세요.");
         }
 
-        log.info("회원가입 시도 - IP: {}, 시도 수: {}/{}", clientIp, count, SIGNUP_LIMIT_PER_HOUR);
+        log.info("회원가입 시도 - IP: {}, 남은 시도: {}/{}", clientIp, decision.remaining(), SIGNUP_LIMIT_PER_HOUR);
     }
 }
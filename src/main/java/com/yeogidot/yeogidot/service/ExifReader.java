@@ -0,0 +1,329 @@
+package com.yeogidot.yeogidot.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+
+/**
+ * 사진 파일의 EXIF 메타데이터 추출기 (촬영 시각, GPS 좌표)
+ * - JPEG: APP1(Exif) 세그먼트, PNG: eXIf 청크, WebP: EXIF 청크만 읽음
+ * - 픽셀 데이터는 디코딩하지 않고 세그먼트 단위로 건너뛰며, EXIF 블록(최대 64KB 내외)만 메모리에 올림
+ * - EXIF가 없거나 손상된 경우 빈 결과 반환 (업로드 자체를 막지 않음)
+ */
+@Slf4j
+@Component
+public class ExifReader {
+
+    // EXIF 블록 크기 상한 (비정상적으로 큰 청크로 메모리를 낭비하지 않도록)
+    private static final int MAX_EXIF_SIZE = 256 * 1024;
+
+    private static final byte[] EXIF_HEADER = {'E', 'x', 'i', 'f', 0, 0};
+    private static final DateTimeFormatter EXIF_DATE_TIME = DateTimeFormatter.ofPattern("yyyy:MM:dd HH:mm:ss");
+
+    // TIFF 태그
+    private static final int TAG_DATE_TIME = 0x0132;
+    private static final int TAG_EXIF_IFD = 0x8769;
+    private static final int TAG_GPS_IFD = 0x8825;
+    private static final int TAG_DATE_TIME_ORIGINAL = 0x9003;
+    private static final int TAG_GPS_LATITUDE_REF = 0x0001;
+    private static final int TAG_GPS_LATITUDE = 0x0002;
+    private static final int TAG_GPS_LONGITUDE_REF = 0x0003;
+    private static final int TAG_GPS_LONGITUDE = 0x0004;
+
+    /**
+     * 추출 결과 (각 항목은 없으면 null)
+     * - takenAt: 촬영 당시 현지 시각 (DateTimeOriginal, 없으면 DateTime)
+     *   촬영 시각은 현지 시각 그대로 저장하므로(클라이언트가 보낸 시간대 포함 값도 현지 시각만 사용) OffsetTimeOriginal은 읽지 않음
+     */
+    public record ExifData(LocalDateTime takenAt, Double latitude, Double longitude) {
+        public static final ExifData EMPTY = new ExifData(null, null, null);
+    }
+
+    /**
+     * 스트림에서 EXIF 메타데이터 추출 (파일 형식은 시그니처로 판별)
+     */
+    public ExifData read(InputStream is) {
+        try {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(is, 8 * 1024));
+            byte[] tiff = findTiffBlock(in);
+            return tiff != null ? parseTiff(ByteBuffer.wrap(tiff)) : ExifData.EMPTY;
+        } catch (EOFException e) {
+            return ExifData.EMPTY;
+        } catch (IOException | RuntimeException e) {
+            log.debug("EXIF 읽기 실패 - 메타데이터 없이 진행: {}", e.getMessage());
+            return ExifData.EMPTY;
+        }
+    }
+
+    private byte[] findTiffBlock(DataInputStream in) throws IOException {
+        int b0 = in.readUnsignedByte();
+        int b1 = in.readUnsignedByte();
+
+        if (b0 == 0xFF && b1 == 0xD8) {
+            return findInJpeg(in);
+        }
+        if (b0 == 0x89 && b1 == 'P') {
+            return findInPng(in);
+        }
+        if (b0 == 'R' && b1 == 'I') {
+            return findInWebp(in);
+        }
+        return null;
+    }
+
+    /**
+     * JPEG: 스캔 데이터(SOS) 전까지 세그먼트를 훑어 "Exif\0\0"로 시작하는 APP1 세그먼트를 찾음
+     */
+    private byte[] findInJpeg(DataInputStream in) throws IOException {
+        while (true) {
+            int marker = in.readUnsignedByte();
+            if (marker != 0xFF) {
+                return null;
+            }
+            do {
+                marker = in.readUnsignedByte();
+            } while (marker == 0xFF);
+
+            if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD7)) {
+                continue;
+            }
+            if (marker == 0xD9 || marker == 0xDA) {
+                return null;
+            }
+
+            int length = in.readUnsignedShort() - 2;
+            if (length < 0) {
+                return null;
+            }
+
+            if (marker == 0xE1 && length > EXIF_HEADER.length) {
+                byte[] segment = new byte[length];
+                in.readFully(segment);
+                if (startsWith(segment, EXIF_HEADER)) {
+                    return Arrays.copyOfRange(segment, EXIF_HEADER.length, segment.length);
+                }
+                continue; // XMP 등 다른 APP1 세그먼트
+            }
+            in.skipNBytes(length);
+        }
+    }
+
+    /**
+     * PNG: IEND 전까지 청크를 훑어 eXIf 청크를 찾음
+     */
+    private byte[] findInPng(DataInputStream in) throws IOException {
+        in.skipNBytes(6); // 나머지 시그니처
+        while (true) {
+            long length = Integer.toUnsignedLong(in.readInt());
+            String type = readFourCc(in);
+            if ("eXIf".equals(type)) {
+                return readBlock(in, length);
+            }
+            if ("IEND".equals(type)) {
+                return null;
+            }
+            in.skipNBytes(length + 4); // 데이터 + CRC
+        }
+    }
+
+    /**
+     * WebP: RIFF 청크를 훑어 EXIF 청크를 찾음 (청크 크기는 짝수로 패딩)
+     */
+    private byte[] findInWebp(DataInputStream in) throws IOException {
+        in.skipNBytes(6); // "FF" + RIFF 전체 크기
+        if (!"WEBP".equals(readFourCc(in))) {
+            return null;
+        }
+        while (true) {
+            String type = readFourCc(in);
+            long length = Integer.toUnsignedLong(Integer.reverseBytes(in.readInt()));
+            if ("EXIF".equals(type)) {
+                byte[] block = readBlock(in, length);
+                // 일부 인코더는 JPEG처럼 "Exif\0\0" 헤더를 붙임
+                return block != null && startsWith(block, EXIF_HEADER)
+                        ? Arrays.copyOfRange(block, EXIF_HEADER.length, block.length)
+                        : block;
+            }
+            in.skipNBytes(length + (length & 1));
+        }
+    }
+
+    private static byte[] readBlock(DataInputStream in, long length) throws IOException {
+        if (length > MAX_EXIF_SIZE) {
+            return null;
+        }
+        byte[] block = new byte[(int) length];
+        in.readFully(block);
+        return block;
+    }
+
+    /**
+     * TIFF 구조 파싱: IFD0 → Exif IFD(촬영 시각), GPS IFD(좌표)
+     */
+    private ExifData parseTiff(ByteBuffer tiff) {
+        try {
+            if (tiff.get(0) == 'I' && tiff.get(1) == 'I') {
+                tiff.order(ByteOrder.LITTLE_ENDIAN);
+            } else if (tiff.get(0) == 'M' && tiff.get(1) == 'M') {
+                tiff.order(ByteOrder.BIG_ENDIAN);
+            } else {
+                return ExifData.EMPTY;
+            }
+
+            int ifd0 = tiff.getInt(4);
+            String dateTime = null;
+            String dateTimeOriginal = null;
+            String latitudeRef = null;
+            String longitudeRef = null;
+            Double latitude = null;
+            Double longitude = null;
+
+            int exifIfd = -1;
+            int gpsIfd = -1;
+            int count = entryCount(tiff, ifd0);
+            for (int i = 0; i < count; i++) {
+                int entry = ifd0 + 2 + i * 12;
+                switch (tiff.getShort(entry) & 0xFFFF) {
+                    case TAG_DATE_TIME -> dateTime = readAscii(tiff, entry);
+                    case TAG_EXIF_IFD -> exifIfd = tiff.getInt(entry + 8);
+                    case TAG_GPS_IFD -> gpsIfd = tiff.getInt(entry + 8);
+                    default -> {
+                    }
+                }
+            }
+
+            if (exifIfd > 0) {
+                count = entryCount(tiff, exifIfd);
+                for (int i = 0; i < count; i++) {
+                    int entry = exifIfd + 2 + i * 12;
+                    switch (tiff.getShort(entry) & 0xFFFF) {
+                        case TAG_DATE_TIME_ORIGINAL -> dateTimeOriginal = readAscii(tiff, entry);
+                        default -> {
+                        }
+                    }
+                }
+            }
+
+            if (gpsIfd > 0) {
+                count = entryCount(tiff, gpsIfd);
+                for (int i = 0; i < count; i++) {
+                    int entry = gpsIfd + 2 + i * 12;
+                    switch (tiff.getShort(entry) & 0xFFFF) {
+                        case TAG_GPS_LATITUDE_REF -> latitudeRef = readAscii(tiff, entry);
+                        case TAG_GPS_LATITUDE -> latitude = readDegrees(tiff, entry);
+                        case TAG_GPS_LONGITUDE_REF -> longitudeRef = readAscii(tiff, entry);
+                        case TAG_GPS_LONGITUDE -> longitude = readDegrees(tiff, entry);
+                        default -> {
+                        }
+                    }
+                }
+            }
+
+            if (latitude != null && "S".equalsIgnoreCase(latitudeRef)) {
+                latitude = -latitude;
+            }
+            if (longitude != null && "W".equalsIgnoreCase(longitudeRef)) {
+                longitude = -longitude;
+            }
+            // 좌표가 한쪽만 있거나 (0, 0)이면 GPS 정보가 없는 것으로 처리
+            if (latitude == null || longitude == null || (latitude == 0 && longitude == 0)) {
+                latitude = null;
+                longitude = null;
+            }
+
+            return new ExifData(
+                    parseDateTime(dateTimeOriginal != null ? dateTimeOriginal : dateTime),
+                    latitude,
+                    longitude
+            );
+        } catch (IndexOutOfBoundsException | BufferUnderflowException e) {
+            return ExifData.EMPTY; // 오프셋이 블록 밖을 가리키는 손상된 EXIF
+        }
+    }
+
+    private static int entryCount(ByteBuffer tiff, int ifdOffset) {
+        return tiff.getShort(ifdOffset) & 0xFFFF;
+    }
+
+    /**
+     * ASCII 값 (4바이트 이하는 엔트리 안에, 초과하면 오프셋이 가리키는 위치에 저장)
+     */
+    private static String readAscii(ByteBuffer tiff, int entry) {
+        int length = tiff.getInt(entry + 4);
+        if (length <= 0 || length > 64) {
+            return null;
+        }
+        int valueOffset = length <= 4 ? entry + 8 : tiff.getInt(entry + 8);
+        byte[] value = new byte[length];
+        tiff.get(valueOffset, value);
+
+        int end = 0;
+        while (end < value.length && value[end] != 0) {
+            end++;
+        }
+        String text = new String(value, 0, end, StandardCharsets.US_ASCII).trim();
+        return text.isEmpty() ? null : text;
+    }
+
+    /**
+     * 도/분/초 RATIONAL 3개 → 십진수 도
+     */
+    private static Double readDegrees(ByteBuffer tiff, int entry) {
+        if (tiff.getInt(entry + 4) != 3) {
+            return null;
+        }
+        int valueOffset = tiff.getInt(entry + 8);
+        double degrees = rational(tiff, valueOffset);
+        double minutes = rational(tiff, valueOffset + 8);
+        double seconds = rational(tiff, valueOffset + 16);
+        double value = degrees + minutes / 60 + seconds / 3600;
+        return Double.isFinite(value) ? value : null;
+    }
+
+    private static double rational(ByteBuffer tiff, int offset) {
+        long numerator = Integer.toUnsignedLong(tiff.getInt(offset));
+        long denominator = Integer.toUnsignedLong(tiff.getInt(offset + 4));
+        return denominator == 0 ? 0 : (double) numerator / denominator;
+    }
+
+    private static LocalDateTime parseDateTime(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value, EXIF_DATE_TIME);
+        } catch (Exception e) {
+            return null; // "0000:00:00 00:00:00" 등 미설정 값
+        }
+    }
+
+    private static String readFourCc(DataInputStream in) throws IOException {
+        byte[] fourCc = new byte[4];
+        in.readFully(fourCc);
+        return new String(fourCc, StandardCharsets.US_ASCII);
+    }
+
+    private static boolean startsWith(byte[] data, byte[] prefix) {
+        if (data.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (data[i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
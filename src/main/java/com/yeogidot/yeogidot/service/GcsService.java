@@ -6,35 +6,79 @@ import net.coobird.thumbnailator.Thumbnails;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Error;
 
-import java.io.ByteArrayOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
 
 /**
  * Cloudflare R2 Storage 파일 업로드 서비스 (S3 호환 API)
+ * - 업로드 파일 전체를 힙(byte[])에 올리지 않고 스트림/임시 파일 단위로 전송
+ * - 업로드는 S3AsyncClient로 비동기 전송 (CompletableFuture 반환)
+ * - 사진마다 원본/중간/썸네일 3가지 크기를 저장해 화면별로 알맞은 크기를 내려줌
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GcsService {
 
+    // 압축 결과를 임시 파일에 쓸 때 사용하는 버퍼 크기 (사진 1장당 힙 사용량 상한)
+    private static final int STREAM_BUFFER_SIZE = 256 * 1024;
+
+    // 파생 이미지 저장 경로 (원본과 같은 파일명 사용)
+    private static final String MEDIUM_PREFIX = "medium/";
+    private static final String THUMBNAIL_PREFIX = "thumb/";
+
+    // S3 DeleteObjects 요청당 최대 키 개수
+    private static final int MAX_DELETE_KEYS = 1000;
+
     @Value("${r2.bucket}")
     private String bucketName;
 
     @Value("${r2.public-url}")
     private String publicUrl;
 
+    @Value("${image.medium-max-size:1280}")
+    private int mediumMaxSize;
+
+    @Value("${image.thumbnail-max-size:320}")
+    private int thumbnailMaxSize;
+
     private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
 
     /**
-     * R2에 파일 업로드 후 퍼블릭 URL 반환
+     * 업로드할 파일의 저장 키 결정 (업로드 전에 세션에 기록하기 위함)
+     * - 파생 이미지는 원본과 같은 파일명으로 medium/, thumb/ 경로에 저장
+     * - WebP 등 압축 대상이 아닌 파일은 원본 키만 사용 (중간/썸네일 키는 null)
      */
-    public String uploadFile(MultipartFile file) throws IOException {
+    public UploadPlan plan(MultipartFile file) {
         String uuid = UUID.randomUUID().toString();
         String originalFilename = file.getOriginalFilename();
         String extension = "";
@@ -43,46 +87,199 @@ public class GcsService {
             extension = originalFilename.substring(originalFilename.lastIndexOf("."));
         }
 
-        String fileName = uuid + extension;
+        if (!isCompressible(file.getContentType())) {
+            return new UploadPlan(uuid + extension, null, null);
+        }
+        String derivativeName = uuid + ".jpg";
+        return new UploadPlan(uuid + extension, MEDIUM_PREFIX + derivativeName, THUMBNAIL_PREFIX + derivativeName);
+    }
+
+    /**
+     * 업로드 계획의 퍼블릭 URL 목록 (원본 + 파생 이미지)
+     */
+    public List<String> plannedUrls(UploadPlan plan) {
+        return Stream.of(plan.originalKey(), plan.mediumKey(), plan.thumbnailKey())
+                .filter(Objects::nonNull)
+                .map(this::toUrl)
+                .toList();
+    }
+
+    /**
+     * R2에 사진 비동기 업로드 → 완료 시 원본/중간/썸네일 퍼블릭 URL
+     * - JPEG/PNG는 한 번만 디코딩해 원본(품질 90% JPEG), 중간 크기, 썸네일을 함께 생성
+     * - 이미지 생성(임시 파일 기록)까지는 호출한 스레드에서 실행하고,
+     *   전송은 S3AsyncClient가 담당하므로 전송 중에는 스레드를 점유하지 않음
+     * - 임시 파일 크기가 기준(r2.multipart.threshold) 이상이면 멀티파트 업로드
+     */
+    public CompletableFuture<UploadedImage> uploadFileAsync(MultipartFile file, UploadPlan plan) throws IOException {
+        log.info("📤 R2 업로드 시작: {} → {}", file.getOriginalFilename(), plan.originalKey());
+
+        if (plan.mediumKey() == null) {
+            Path original = copyToTempFile(file);
+            return put(plan.originalKey(), file.getContentType(), original)
+                    .thenApply(originalUrl -> {
+                        log.info("✅ R2 업로드 완료: {}", originalUrl);
+                        return new UploadedImage(originalUrl, null, null);
+                    });
+        }
+
+        Derivatives derivatives = renderDerivatives(file);
+
+        CompletableFuture<String> originalUpload = put(plan.originalKey(), "image/jpeg", derivatives.original());
+        CompletableFuture<String> mediumUpload = put(plan.mediumKey(), "image/jpeg", derivatives.medium());
+        CompletableFuture<String> thumbnailUpload = put(plan.thumbnailKey(), "image/jpeg", derivatives.thumbnail());
+
+        return CompletableFuture.allOf(originalUpload, mediumUpload, thumbnailUpload)
+                .handle((ignored, error) -> {
+                    if (error != null) {
+                        // 일부만 올라간 경우 남은 파일 정리 후 실패 전달
+                        rollback(originalUpload, mediumUpload, thumbnailUpload);
+                        throw error instanceof CompletionException ce ? ce : new CompletionException(error);
+                    }
+                    UploadedImage uploaded = new UploadedImage(originalUpload.join(), mediumUpload.join(), thumbnailUpload.join());
+                    log.info("✅ R2 업로드 완료: {} (중간/썸네일 포함)", uploaded.originalUrl());
+                    return uploaded;
+                });
+    }
+
+    /**
+     * 저장 키 계획 (mediumKey, thumbnailKey는 파생 이미지가 없으면 null)
+     */
+    public record UploadPlan(String originalKey, String mediumKey, String thumbnailKey) {
+    }
+
+    /**
+     * 업로드 결과 (mediumUrl, thumbnailUrl은 파생 이미지가 없으면 null)
+     */
+    public record UploadedImage(String originalUrl, String mediumUrl, String thumbnailUrl) {
+    }
+
+    private record Derivatives(Path original, Path medium, Path thumbnail) {
+    }
+
+    /**
+     * 한 번 디코딩한 이미지로 원본/중간/썸네일 JPEG 임시 파일 생성
+     * - 원본보다 큰 크기로는 늘리지 않음
+     */
+    private Derivatives renderDerivatives(MultipartFile file) throws IOException {
+        BufferedImage image;
+        try (InputStream in = file.getInputStream()) {
+            image = Thumbnails.of(in).scale(1.0).asBufferedImage();
+        }
+
+        List<Path> written = new ArrayList<>(3);
+        try {
+            written.add(writeJpeg(image, 1.0, 0.9));
+            written.add(writeJpeg(image, fitScale(image, mediumMaxSize), 0.85));
+            written.add(writeJpeg(image, fitScale(image, thumbnailMaxSize), 0.8));
+        } catch (IOException | RuntimeException e) {
+            for (Path path : written) {
+                deleteTempFile(path);
+            }
+            throw e;
+        }
+
+        log.info("📦 파일 크기: {}KB → 원본 {}KB, 중간 {}KB, 썸네일 {}KB",
+                file.getSize() / 1024,
+                Files.size(written.get(0)) / 1024,
+                Files.size(written.get(1)) / 1024,
+                Files.size(written.get(2)) / 1024);
+        return new Derivatives(written.get(0), written.get(1), written.get(2));
+    }
 
-        log.info("📤 R2 업로드 시작: {} → {}", originalFilename, fileName);
+    /**
+     * 이미지를 JPEG 임시 파일로 기록
+     * - 결과를 byte[] 대신 임시 파일에 기록하고, SDK가 파일을 청크 단위로 읽어 전송
+     */
+    private Path writeJpeg(BufferedImage image, double scale, double quality) throws IOException {
+        Path tempFile = Files.createTempFile("yeogidot-upload-", ".jpg");
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile), STREAM_BUFFER_SIZE)) {
+            Thumbnails.of(image)
+                    .scale(scale)
+                    .outputQuality(quality)
+                    .outputFormat("JPEG")
+                    .toOutputStream(out);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        return tempFile;
+    }
 
-        byte[] uploadBytes = compressIfImage(file);
-        log.info("📦 파일 크기: {}KB → {}KB", file.getSize() / 1024, uploadBytes.length / 1024);
+    private static double fitScale(BufferedImage image, int maxSize) {
+        int longest = Math.max(image.getWidth(), image.getHeight());
+        return longest <= maxSize ? 1.0 : (double) maxSize / longest;
+    }
 
+    /**
+     * 임시 파일을 지정한 키로 비동기 전송 (완료/실패 시 임시 파일 삭제) → 퍼블릭 URL
+     * - 요청 생성 중 예외도 실패한 future로 돌려줌 (함께 올린 파일의 롤백과 임시 파일 정리를 한곳에서 처리)
+     */
+    private CompletableFuture<String> put(String key, String contentType, Path tempFile) {
         PutObjectRequest putRequest = PutObjectRequest.builder()
                 .bucket(bucketName)
-                .key(fileName)
-                .contentType(file.getContentType())
+                .key(key)
+                .contentType(contentType)
                 .build();
 
-        s3Client.putObject(putRequest, RequestBody.fromBytes(uploadBytes));
+        CompletableFuture<PutObjectResponse> upload;
+        try {
+            upload = s3AsyncClient.putObject(putRequest, AsyncRequestBody.fromFile(tempFile));
+        } catch (RuntimeException e) {
+            deleteTempFile(tempFile);
+            return CompletableFuture.failedFuture(e);
+        }
 
-        String fileUrl = publicUrl + "/" + fileName;
-        log.info("✅ R2 업로드 완료: {}", fileUrl);
+        return upload
+                .whenComplete((response, error) -> deleteTempFile(tempFile))
+                .thenApply(response -> toUrl(key));
+    }
 
-        return fileUrl;
+    private String toUrl(String key) {
+        return publicUrl + "/" + key;
+    }
+
+    @SafeVarargs
+    private void rollback(CompletableFuture<String>... uploads) {
+        for (CompletableFuture<String> upload : uploads) {
+            if (upload.isDone() && !upload.isCompletedExceptionally()) {
+                try {
+                    deleteFile(upload.join());
+                } catch (Exception e) {
+                    log.error("❌ R2 업로드 롤백 삭제 실패: {}", upload.join(), e);
+                }
+            }
+        }
     }
 
     /**
-     * 이미지 압축 (JPEG/PNG → 품질 90%로 압축)
+     * 압축 대상이 아닌 파일(WebP 등)은 원본 그대로 임시 파일에 복사
+     * - 파일 본문은 재전송(재시도, 멀티파트 분할)이 가능하므로 multipart 스트림 대신 사용
      */
-    private byte[] compressIfImage(MultipartFile file) throws IOException {
-        String contentType = file.getContentType();
+    private Path copyToTempFile(MultipartFile file) throws IOException {
+        log.info("📦 파일 크기: {}KB (압축 없음)", file.getSize() / 1024);
 
-        if (contentType == null ||
-                (!contentType.equals("image/jpeg") && !contentType.equals("image/png"))) {
-            return file.getBytes();
+        Path tempFile = Files.createTempFile("yeogidot-upload-", ".tmp");
+        try (InputStream in = file.getInputStream()) {
+            Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
         }
+        return tempFile;
+    }
 
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        Thumbnails.of(file.getInputStream())
-                .scale(1.0)
-                .outputQuality(0.9)
-                .outputFormat("JPEG")
-                .toOutputStream(outputStream);
+    private void deleteTempFile(Path tempFile) {
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            log.warn("⚠️ 업로드 임시 파일 삭제 실패: {}", tempFile, e);
+        }
+    }
 
-        return outputStream.toByteArray();
+    private boolean isCompressible(String contentType) {
+        return contentType != null
+                && (contentType.equals("image/jpeg") || contentType.equals("image/png"));
     }
 
     /**
@@ -106,4 +303,47 @@ public class GcsService {
         s3Client.deleteObject(deleteRequest);
         log.info("R2 파일 삭제 완료: {}", objectName);
     }
+
+    /**
+     * R2에서 여러 파일 일괄 삭제 (DeleteObjects, 요청당 최대 1000개)
+     *
+     * @return 삭제에 실패한 파일 URL → 오류 메시지 (형식이 잘못된 URL은 삭제할 대상이 없으므로 성공으로 처리)
+     */
+    public Map<String, String> deleteFiles(List<String> fileUrls) {
+        Map<String, String> urlByKey = new LinkedHashMap<>();
+        for (String fileUrl : fileUrls) {
+            if (fileUrl == null || !fileUrl.startsWith(publicUrl)) {
+                log.warn("R2 파일 URL 형식이 올바르지 않습니다: {}", fileUrl);
+                continue;
+            }
+            urlByKey.put(fileUrl.substring(publicUrl.length() + 1), fileUrl);
+        }
+
+        Map<String, String> failures = new HashMap<>();
+        List<String> keys = new ArrayList<>(urlByKey.keySet());
+        for (int from = 0; from < keys.size(); from += MAX_DELETE_KEYS) {
+            List<String> chunk = keys.subList(from, Math.min(from + MAX_DELETE_KEYS, keys.size()));
+
+            DeleteObjectsRequest deleteRequest = DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(Delete.builder()
+                            .objects(chunk.stream().map(key -> ObjectIdentifier.builder().key(key).build()).toList())
+                            .quiet(true)
+                            .build())
+                    .build();
+
+            try {
+                DeleteObjectsResponse response = s3Client.deleteObjects(deleteRequest);
+                for (S3Error error : response.errors()) {
+                    failures.put(urlByKey.get(error.key()), error.code() + ": " + error.message());
+                }
+            } catch (Exception e) {
+                log.error("❌ R2 일괄 삭제 요청 실패 - {}개", chunk.size(), e);
+                for (String key : chunk) {
+                    failures.put(urlByKey.get(key), e.getMessage());
+                }
+            }
+        }
+        return failures;
+    }
 }
@@ -0,0 +1,159 @@
+package com.yeogidot.yeogidot.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 역지오코딩 결과 2단계 캐시
+ * - L1: 서버 내 Caffeine 캐시 (크기 제한 + TTL)
+ * - L2: Redis (여러 서버가 공유, 긴 TTL)
+ * - 좌표를 소수점 4자리(약 11m)로 반올림한 격자 하나당 RegionInfo 한 개만 저장하고,
+ *   시/도, 시/군/구 등 모든 조회는 이 값에서 파생
+ * - 같은 격자에 대한 동시 요청은 하나의 조회로 합쳐짐 (카카오 API 중복 호출 방지)
+ */
+@Slf4j
+@Component
+public class GeoCodingCache {
+
+    private static final String KEY_PREFIX = "geocoding:";
+    private static final String FIELD_SEPARATOR = "|";
+    static final int GRID_SCALE = 4;
+
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<String, GeoCodingService.RegionInfo> localCache;
+    // 조회 중인 격자 (같은 격자 동시 요청은 먼저 시작한 조회 결과를 공유)
+    private final ConcurrentHashMap<String, CompletableFuture<GeoCodingService.RegionInfo>> inFlight = new ConcurrentHashMap<>();
+    private final Duration redisTtl;
+
+    public GeoCodingCache(
+            StringRedisTemplate redisTemplate,
+            @Value("${geocoding.cache.local-max-size:10000}") long localMaxSize,
+            @Value("${geocoding.cache.local-ttl:PT6H}") Duration localTtl,
+            @Value("${geocoding.cache.redis-ttl:P30D}") Duration redisTtl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.redisTtl = redisTtl;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .build();
+    }
+
+    /**
+     * 격자 키 생성 (예: "35.1584,129.1603")
+     */
+    public static String gridKey(BigDecimal latitude, BigDecimal longitude) {
+        return latitude.setScale(GRID_SCALE, RoundingMode.HALF_UP).toPlainString()
+                + "," + longitude.setScale(GRID_SCALE, RoundingMode.HALF_UP).toPlainString();
+    }
+
+    /**
+     * 캐시 조회 → L1, L2 순으로 확인하고 둘 다 없으면 loader 실행
+     * - loader가 null을 반환하면(일시적 실패) 캐시하지 않음
+     */
+    public GeoCodingService.RegionInfo get(BigDecimal latitude, BigDecimal longitude,
+                                           Supplier<GeoCodingService.RegionInfo> loader) {
+        String key = gridKey(latitude, longitude);
+
+        GeoCodingService.RegionInfo hit = localCache.getIfPresent(key);
+        if (hit != null) {
+            return hit;
+        }
+
+        CompletableFuture<GeoCodingService.RegionInfo> mine = new CompletableFuture<>();
+        CompletableFuture<GeoCodingService.RegionInfo> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return awaitRunning(running);
+        }
+
+        // 조회는 호출한 스레드에서 직접 실행 (별도 스레드 풀 사용 안 함)
+        try {
+            GeoCodingService.RegionInfo loaded = loadFromRedisOrOrigin(key, loader);
+            if (loaded != null) {
+                localCache.put(key, loaded);
+            }
+            mine.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private GeoCodingService.RegionInfo awaitRunning(CompletableFuture<GeoCodingService.RegionInfo> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            // 먼저 시작한 조회의 예외(카카오 쿼터 초과 등)는 원래 예외 그대로 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private GeoCodingService.RegionInfo loadFromRedisOrOrigin(String key, Supplier<GeoCodingService.RegionInfo> loader) {
+        GeoCodingService.RegionInfo cached = readRedis(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        GeoCodingService.RegionInfo loaded = loader.get();
+        if (loaded != null) {
+            writeRedis(key, loaded);
+        }
+        return loaded;
+    }
+
+    private GeoCodingService.RegionInfo readRedis(String key) {
+        try {
+            String value = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+            if (value == null) {
+                return null;
+            }
+            int separator = value.indexOf(FIELD_SEPARATOR);
+            if (separator < 0) {
+                return null;
+            }
+            return new GeoCodingService.RegionInfo(
+                    emptyToNull(value.substring(0, separator)),
+                    emptyToNull(value.substring(separator + 1))
+            );
+        } catch (Exception e) {
+            // Redis 장애 시에도 역지오코딩은 계속 동작해야 하므로 캐시 미스로 처리
+            log.warn("⚠️ 지오코딩 Redis 캐시 조회 실패: {} - {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, GeoCodingService.RegionInfo regionInfo) {
+        try {
+            String value = nullToEmpty(regionInfo.getRegion1depth()) + FIELD_SEPARATOR + nullToEmpty(regionInfo.getRegion2depth());
+            redisTemplate.opsForValue().set(KEY_PREFIX + key, value, redisTtl);
+        } catch (Exception e) {
+            log.warn("⚠️ 지오코딩 Redis 캐시 저장 실패: {} - {}", key, e.getMessage());
+        }
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
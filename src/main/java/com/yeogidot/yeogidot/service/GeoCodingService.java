@@ -3,32 +3,43 @@ package com.yeogidot.yeogidot.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
 
 /**
- * 카카오 역지오코딩 서비스
+ * 역지오코딩 서비스
  * 위도/경도 → 지역명 변환
+ * - 등록된 ReverseGeocoder를 @Order 순서대로 조회 (로컬 행정구역 경계 → 카카오 API)
+ * - 원격 조회 결과는 GeoCodingCache(L1 로컬 + L2 Redis)에 좌표 격자 단위로 캐싱
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GeoCodingService {
 
-    @Value("${kakao.api.key}")
-    private String kakaoApiKey;
+    // @Order 순으로 정렬되어 주입됨
+    private final List<ReverseGeocoder> reverseGeocoders;
+    private final GeoCodingCache geoCodingCache;
 
-    private final RestTemplate restTemplate;
+    // 일괄 조회 시 카카오 API 동시 호출 수
+    @Value("${geocoding.batch-concurrency:4}")
+    private int batchConcurrency;
 
     /**
      * 위도/경도로 지역명 조회 (시/도 단위)
@@ -37,10 +48,6 @@ public class GeoCodingService {
      * @param longitude 경도
      * @return 지역명 (예: "부산광역시", "제주특별자치도")
      */
-    @Cacheable(
-            value = "geocoding",
-            key = "'region1:' + #latitude.setScale(4, T(java.math.RoundingMode).HALF_UP).toString() + ',' + #longitude.setScale(4, T(java.math.RoundingMode).HALF_UP).toString()"
-    )
     public String getRegionFromCoordinates(BigDecimal latitude, BigDecimal longitude) {
         RegionInfo regionInfo = getDetailedRegion(latitude, longitude);
         return regionInfo != null ? regionInfo.getRegion1depth() : null;
@@ -53,28 +60,9 @@ public class GeoCodingService {
      * @param longitude 경도
      * @return 시/군/구 레벨 지역명 (예: "부산광역시 부산진구", "서울특별시 강남구")
      */
-    @Cacheable(
-            value = "geocoding",
-            key = "#latitude.setScale(4, T(java.math.RoundingMode).HALF_UP).toString() + ',' + #longitude.setScale(4, T(java.math.RoundingMode).HALF_UP).toString()"
-    )
     public String getDistrictFromCoordinates(BigDecimal latitude, BigDecimal longitude) {
         RegionInfo regionInfo = getDetailedRegion(latitude, longitude);
-        if (regionInfo != null) {
-            String region1 = regionInfo.getRegion1depth();  // 예: "부산광역시"
-            String region2 = regionInfo.getRegion2depth();  // 예: "부산진구"
-
-            if (region1 != null && region2 != null) {
-                // "부산광역시 부산진구" 형태로 반환
-                return region1 + " " + region2;
-            } else if (region2 != null) {
-                // region2만 있는 경우
-                return region2;
-            } else if (region1 != null) {
-                // region1만 있는 경우
-                return region1;
-            }
-        }
-        return null;
+        return regionInfo != null ? regionInfo.getDistrictName() : null;
     }
 
     /**
@@ -84,66 +72,128 @@ public class GeoCodingService {
      * @param longitude 경도
      * @return RegionInfo (시/도, 구/군 포함)
      */
-    @Cacheable(
-            value = "geocoding",
-            key = "'detail:' + #latitude.setScale(4, T(java.math.RoundingMode).HALF_UP).toString() + ',' + #longitude.setScale(4, T(java.math.RoundingMode).HALF_UP).toString()"
-    )
     public RegionInfo getDetailedRegion(BigDecimal latitude, BigDecimal longitude) {
         if (latitude == null || longitude == null) {
             return null;
         }
 
-        try {
-            String url = String.format(
-                    "https://dapi.kakao.com/v2/local/geo/coord2regioncode.json?x=%s&y=%s",
-                    longitude.toString(),
-                    latitude.toString()
-            );
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "KakaoAK " + kakaoApiKey);
+        RegionInfo regionInfo = resolve(latitude, longitude, false);
+        return regionInfo == null || regionInfo.isEmpty() ? null : regionInfo;
+    }
 
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-            ResponseEntity<Map> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    entity,
-                    Map.class
-            );
+    // 구현체를 순서대로 조회해 처음으로 판단한 결과 반환 (localOnly면 첫 원격 구현체 앞에서 멈춤)
+    private RegionInfo resolve(BigDecimal latitude, BigDecimal longitude, boolean localOnly) {
+        for (ReverseGeocoder geocoder : reverseGeocoders) {
+            if (!geocoder.isEnabled()) {
+                continue;
+            }
+            if (geocoder.isRemote() && localOnly) {
+                return null;
+            }
+            RegionInfo regionInfo = geocoder.isRemote()
+                    ? geoCodingCache.get(latitude, longitude, () -> geocoder.reverseGeocode(latitude, longitude))
+                    : geocoder.reverseGeocode(latitude, longitude);
+            if (regionInfo != null) {
+                return regionInfo;
+            }
+        }
+        return null;
+    }
 
-            Map<String, Object> body = response.getBody();
-            if (body != null && body.containsKey("documents")) {
-                Object documentsObj = body.get("documents");
-                if (!(documentsObj instanceof java.util.List<?>)) return null;
-                java.util.List<?> documents = (java.util.List<?>) documentsObj;
-
-                if (!documents.isEmpty()) {
-                    Object firstDocObj = documents.get(0);
-                    if (!(firstDocObj instanceof Map<?, ?> firstDoc)) return null;
-                    String region1depth = firstDoc.get("region_1depth_name") instanceof String s ? s : null;
-                    String region2depth = firstDoc.get("region_2depth_name") instanceof String s ? s : null;
-
-                    log.info("📍 역지오코딩 성공: ({}, {}) → {} {}", latitude, longitude, region1depth, region2depth);
-                    return new RegionInfo(region1depth, region2depth);
-                }
+    /**
+     * 여러 좌표의 지역 정보를 한 번에 조회
+     * - 좌표를 캐시 격자(소수점 4자리)로 맞춘 뒤 중복 제거 → 같은 격자는 한 번만 조회
+     * - 로컬 구현체로 찾지 못한 격자만 동시 실행 수를 제한해 병렬로 원격 조회
+     *
+     * @return 격자 좌표(Coordinate.snap) → RegionInfo (지역을 알 수 없는 좌표는 포함되지 않음)
+     */
+    public Map<Coordinate, RegionInfo> resolveAll(Collection<Coordinate> coordinates) {
+        Set<Coordinate> cells = coordinates.stream()
+                .filter(Objects::nonNull)
+                .map(c -> Coordinate.snap(c.latitude(), c.longitude()))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<Coordinate, RegionInfo> result = new ConcurrentHashMap<>();
+        List<Coordinate> misses = new ArrayList<>();
+
+        // 1. 로컬 경계 조회 (마이크로초 단위라 현재 스레드에서 처리)
+        for (Coordinate cell : cells) {
+            RegionInfo local = resolve(cell.latitude(), cell.longitude(), true);
+            if (local == null) {
+                misses.add(cell);
+            } else if (!local.isEmpty()) {
+                result.put(cell, local);
             }
-        } catch (HttpClientErrorException e) {
-            if (e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
-                log.error("🚨 카카오 API 일일 쿼터 초과. 오늘 더 이상 역지오코딩 불가.");
-                throw new RuntimeException("카카오 API 일일 사용량을 초과했습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        if (misses.isEmpty() || reverseGeocoders.stream().noneMatch(g -> g.isRemote() && g.isEnabled())) {
+            return result;
+        }
+
+        // 2. 나머지 격자만 병렬 조회 (캐시 → 원격 구현체)
+        Semaphore permits = new Semaphore(batchConcurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<Void>> futures = misses.stream()
+                    .map(cell -> CompletableFuture.runAsync(() -> {
+                        permits.acquireUninterruptibly();
+                        try {
+                            RegionInfo regionInfo = getDetailedRegion(cell.latitude(), cell.longitude());
+                            if (regionInfo != null) {
+                                result.put(cell, regionInfo);
+                            }
+                        } finally {
+                            permits.release();
+                        }
+                    }, executor))
+                    .toList();
+
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            // 카카오 쿼터 초과 등은 단건 조회와 같은 예외로 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
-            log.error("❌ 역지오코딩 실패 (HTTP {}): ({}, {}) - {}", e.getStatusCode(), latitude, longitude, e.getMessage());
-        } catch (Exception e) {
-            log.error("❌ 역지오코딩 실패: ({}, {}) - {}", latitude, longitude, e.getMessage());
+            throw e;
         }
 
-        return null;
+        log.info("📍 일괄 역지오코딩: 좌표 {}개 → 격자 {}개 (원격 조회 대상 {}개)",
+                coordinates.size(), cells.size(), misses.size());
+        return result;
+    }
+
+    /**
+     * 위도/경도 좌표 (resolveAll의 입력 및 결과 키)
+     */
+    public record Coordinate(BigDecimal latitude, BigDecimal longitude) {
+
+        /**
+         * 위도/경도 중 하나라도 없으면 null
+         */
+        public static Coordinate of(BigDecimal latitude, BigDecimal longitude) {
+            return latitude == null || longitude == null ? null : new Coordinate(latitude, longitude);
+        }
+
+        /**
+         * 캐시 격자 좌표 (소수점 4자리 반올림) - resolveAll 결과 조회 시 사용
+         */
+        public static Coordinate snap(BigDecimal latitude, BigDecimal longitude) {
+            if (latitude == null || longitude == null) {
+                return null;
+            }
+            return new Coordinate(
+                    latitude.setScale(GeoCodingCache.GRID_SCALE, RoundingMode.HALF_UP),
+                    longitude.setScale(GeoCodingCache.GRID_SCALE, RoundingMode.HALF_UP)
+            );
+        }
     }
 
     /**
      * 지역 정보를 담는 내부 클래스
      */
     public static class RegionInfo implements java.io.Serializable {
+        // 행정구역이 없는 좌표 (캐시 저장용)
+        public static final RegionInfo EMPTY = new RegionInfo(null, null);
+
         private final String region1depth; // 시/도
         private final String region2depth; // 구/군
 
@@ -159,5 +209,20 @@ public class GeoCodingService {
         public String getRegion2depth() {
             return region2depth;
         }
+
+        /**
+         * 시/도 + 시/군/구 지역명 (예: "부산광역시 부산진구")
+         */
+        public String getDistrictName() {
+            if (region1depth != null && region2depth != null) {
+                return region1depth + " " + region2depth;
+            }
+            // 둘 중 하나만 있는 경우 있는 값 반환
+            return region2depth != null ? region2depth : region1depth;
+        }
+
+        public boolean isEmpty() {
+            return region1depth == null && region2depth == null;
+        }
     }
 }
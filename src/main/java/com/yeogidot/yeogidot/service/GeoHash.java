@@ -0,0 +1,159 @@
+package com.yeogidot.yeogidot.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 지오해시 (위도/경도 → base32 문자열)
+ * - 앞부분이 같으면 같은 격자에 속하므로, 문자열 앞부분(prefix) 범위 검색과 GROUP BY로 지도 클러스터링에 사용
+ * - 자리수별 격자 크기(대략): 1=5000km, 2=1250km, 3=156km, 4=39km, 5=4.9km, 6=1.2km, 7=153m, 8=38m, 9=4.8m
+ */
+public final class GeoHash {
+
+    // 사진에 저장하는 자리수 (약 4.8m 격자)
+    public static final int STORED_PRECISION = 9;
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    // base32 알파벳의 마지막 문자('z')보다 큰 문자: prefix 범위의 상한(배타)으로 사용
+    private static final char UPPER_BOUND = '{';
+
+    private GeoHash() {
+    }
+
+    /**
+     * 좌표를 지정한 자리수의 지오해시로 변환
+     */
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLng = -180, maxLng = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;  // 짝수 비트는 경도, 홀수 비트는 위도
+        int bit = 0;
+        int ch = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLng = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                hash.append(BASE32[ch]);
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * 영역(남서~북동)을 모두 포함하는 가장 작은 격자의 지오해시
+     * - 두 모서리의 공통 앞부분: 격자는 축에 정렬된 사각형이므로 두 모서리를 포함하면 영역 전체를 포함
+     * - 영역이 큰 격자 경계를 걸치면 빈 문자열 (전체 범위)
+     */
+    public static String commonPrefix(double south, double west, double north, double east) {
+        String southWest = encode(south, west, STORED_PRECISION);
+        String northEast = encode(north, east, STORED_PRECISION);
+        int length = 0;
+        while (length < STORED_PRECISION && southWest.charAt(length) == northEast.charAt(length)) {
+            length++;
+        }
+        return southWest.substring(0, length);
+    }
+
+    /**
+     * 영역(남서~북동)과 겹치는 지정 자리수 격자 목록 (문자열 순 정렬)
+     * - 격자 크기 단위로 영역 양 끝의 위도/경도 칸 번호를 구하고, 그 사이 각 칸의 중심을 인코딩
+     * - 영역이 큰 격자 경계를 걸쳐도 영역과 겹치는 격자만 나옴 (공통 prefix처럼 전체 범위로 넓어지지 않음)
+     */
+    public static List<String> coveringCells(double south, double west, double north, double east, int precision) {
+        CellRange lat = CellRange.of(south, north, -90, 180, latitudeBits(precision));
+        CellRange lng = CellRange.of(west, east, -180, 360, longitudeBits(precision));
+
+        TreeSet<String> cells = new TreeSet<>();
+        for (long y = lat.from(); y <= lat.to(); y++) {
+            for (long x = lng.from(); x <= lng.to(); x++) {
+                cells.add(encode(lat.center(y), lng.center(x), precision));
+            }
+        }
+        return new ArrayList<>(cells);
+    }
+
+    /**
+     * 영역과 겹치는 지정 자리수 격자 수 (격자를 만들지 않고 계산)
+     */
+    public static long coveringCellCount(double south, double west, double north, double east, int precision) {
+        return CellRange.of(south, north, -90, 180, latitudeBits(precision)).size()
+                * CellRange.of(west, east, -180, 360, longitudeBits(precision)).size();
+    }
+
+    /**
+     * 영역을 덮는 격자 수가 maxCells 이하가 되는 가장 큰 자리수 (maxPrecision 이하, 최소 1)
+     */
+    public static int coveringPrecision(double south, double west, double north, double east,
+                                        int maxPrecision, long maxCells) {
+        int precision = maxPrecision;
+        while (precision > 1 && coveringCellCount(south, west, north, east, precision) > maxCells) {
+            precision--;
+        }
+        return precision;
+    }
+
+    /**
+     * prefix 범위 검색의 상한 (geohash >= prefix AND geohash < upperBound(prefix))
+     */
+    public static String upperBound(String prefix) {
+        return prefix + UPPER_BOUND;
+    }
+
+    // 자리수별 경도/위도 비트 수 (5비트씩 경도부터 번갈아 사용하므로 경도가 같거나 1비트 많음)
+    private static int longitudeBits(int precision) {
+        return (precision * 5 + 1) / 2;
+    }
+
+    private static int latitudeBits(int precision) {
+        return precision * 5 / 2;
+    }
+
+    // 한 축에서 [min, max]와 겹치는 격자 칸 번호 범위 (축 끝값(90, 180)은 마지막 칸에 포함)
+    private record CellRange(long from, long to, double origin, double cellSize) {
+
+        static CellRange of(double min, double max, double origin, double span, int bits) {
+            long cells = 1L << bits;
+            double cellSize = span / cells;
+            return new CellRange(index(min, origin, cellSize, cells), index(max, origin, cellSize, cells),
+                    origin, cellSize);
+        }
+
+        private static long index(double value, double origin, double cellSize, long cells) {
+            long index = (long) Math.floor((value - origin) / cellSize);
+            return Math.max(0, Math.min(cells - 1, index));
+        }
+
+        long size() {
+            return to - from + 1;
+        }
+
+        double center(long index) {
+            return origin + (index + 0.5) * cellSize;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.yeogidot.yeogidot.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 이미지 헤더 검사기 (JPEG / PNG / WebP)
+ * - 파일 앞부분의 시그니처(매직 바이트)로 실제 형식을 판별하고, 헤더에 선언된 가로/세로를 읽음
+ * - 픽셀 데이터는 디코딩하지 않으므로 파일 크기와 관계없이 헤더 길이만큼의 시간/메모리만 사용
+ * - 선언된 픽셀 수가 상한을 넘는 이미지(압축 폭탄)는 디코딩 전에 차단
+ */
+@Component
+public class ImageHeaderSniffer {
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    @Value("${upload.max-image-pixels:100000000}")
+    private long maxPixels;
+
+    public enum Format {
+        JPEG, PNG, WEBP
+    }
+
+    /**
+     * 헤더 검사 결과
+     */
+    public record ImageInfo(Format format, int width, int height) {
+        public long pixels() {
+            return (long) width * height;
+        }
+    }
+
+    /**
+     * 스트림 앞부분만 읽어 이미지 형식과 크기를 판별
+     *
+     * @return 지원하는 이미지가 아니거나 헤더가 손상된 경우 null
+     */
+    public ImageInfo sniff(InputStream is) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(is, 8 * 1024));
+        try {
+            int b0 = in.readUnsignedByte();
+            int b1 = in.readUnsignedByte();
+
+            if (b0 == 0xFF && b1 == 0xD8) {
+                return readJpeg(in);
+            }
+            if (b0 == 0x89 && b1 == 'P') {
+                return readPng(in);
+            }
+            if (b0 == 'R' && b1 == 'I') {
+                return readWebp(in);
+            }
+            return null;
+        } catch (EOFException e) {
+            return null; // 헤더가 끝나기 전에 파일이 끝남
+        }
+    }
+
+    /**
+     * 선언된 해상도가 허용 범위인지 확인
+     */
+    public boolean isWithinPixelLimit(ImageInfo info) {
+        return info.pixels() <= maxPixels;
+    }
+
+    public long getMaxPixels() {
+        return maxPixels;
+    }
+
+    /**
+     * JPEG: 세그먼트를 건너뛰며 SOF(프레임 시작) 마커에서 크기 확인
+     */
+    private ImageInfo readJpeg(DataInputStream in) throws IOException {
+        while (true) {
+            int marker = in.readUnsignedByte();
+            if (marker != 0xFF) {
+                return null;
+            }
+            // 채움 바이트(0xFF 연속) 건너뛰기
+            do {
+                marker = in.readUnsignedByte();
+            } while (marker == 0xFF);
+
+            // 길이 필드가 없는 단독 마커 (TEM, RSTn)
+            if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD7)) {
+                continue;
+            }
+            // 이미지 끝(EOI) 또는 스캔 시작(SOS)까지 SOF가 없으면 손상된 파일
+            if (marker == 0xD9 || marker == 0xDA) {
+                return null;
+            }
+
+            int length = in.readUnsignedShort();
+            if (length < 2) {
+                return null;
+            }
+
+            if (isStartOfFrame(marker)) {
+                in.readUnsignedByte(); // 샘플 정밀도
+                int height = in.readUnsignedShort();
+                int width = in.readUnsignedShort();
+                return valid(Format.JPEG, width, height);
+            }
+            in.skipNBytes(length - 2);
+        }
+    }
+
+    private static boolean isStartOfFrame(int marker) {
+        // SOF0~SOF15 중 DHT(C4), JPG(C8), DAC(CC)는 제외
+        return marker >= 0xC0 && marker <= 0xCF
+                && marker != 0xC4 && marker != 0xC8 && marker != 0xCC;
+    }
+
+    /**
+     * PNG: 시그니처 다음 첫 청크는 반드시 IHDR (가로 4바이트, 세로 4바이트)
+     */
+    private ImageInfo readPng(DataInputStream in) throws IOException {
+        byte[] rest = new byte[PNG_SIGNATURE.length - 2];
+        in.readFully(rest);
+        if (!Arrays.equals(rest, 0, rest.length, PNG_SIGNATURE, 2, PNG_SIGNATURE.length)) {
+            return null;
+        }
+
+        int chunkLength = in.readInt();
+        if (chunkLength != 13 || !"IHDR".equals(readFourCc(in))) {
+            return null;
+        }
+        int width = in.readInt();
+        int height = in.readInt();
+        return valid(Format.PNG, width, height);
+    }
+
+    /**
+     * WebP: RIFF 컨테이너 → 첫 청크(VP8 / VP8L / VP8X)에서 크기 확인
+     */
+    private ImageInfo readWebp(DataInputStream in) throws IOException {
+        if (in.readUnsignedByte() != 'F' || in.readUnsignedByte() != 'F') {
+            return null;
+        }
+        in.skipNBytes(4); // RIFF 전체 크기
+        if (!"WEBP".equals(readFourCc(in))) {
+            return null;
+        }
+
+        String chunk = readFourCc(in);
+        in.skipNBytes(4); // 청크 크기
+
+        switch (chunk) {
+            case "VP8 " -> {
+                // 손실 압축: 프레임 태그(3) + 시작 코드 9D 01 2A + 가로/세로(하위 14비트)
+                in.skipNBytes(3);
+                if (in.readUnsignedByte() != 0x9D || in.readUnsignedByte() != 0x01 || in.readUnsignedByte() != 0x2A) {
+                    return null;
+                }
+                int width = readUInt16LittleEndian(in) & 0x3FFF;
+                int height = readUInt16LittleEndian(in) & 0x3FFF;
+                return valid(Format.WEBP, width, height);
+            }
+            case "VP8L" -> {
+                // 무손실 압축: 시그니처 0x2F + (가로-1) 14비트, (세로-1) 14비트
+                if (in.readUnsignedByte() != 0x2F) {
+                    return null;
+                }
+                long bits = readUInt32LittleEndian(in);
+                int width = (int) (bits & 0x3FFF) + 1;
+                int height = (int) ((bits >> 14) & 0x3FFF) + 1;
+                return valid(Format.WEBP, width, height);
+            }
+            case "VP8X" -> {
+                // 확장 형식: 플래그(1) + 예약(3) + (캔버스 가로-1) 24비트, (캔버스 세로-1) 24비트
+                in.skipNBytes(4);
+                int width = readUInt24LittleEndian(in) + 1;
+                int height = readUInt24LittleEndian(in) + 1;
+                return valid(Format.WEBP, width, height);
+            }
+            default -> {
+                return null;
+            }
+        }
+    }
+
+    private static ImageInfo valid(Format format, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return null;
+        }
+        return new ImageInfo(format, width, height);
+    }
+
+    private static String readFourCc(DataInputStream in) throws IOException {
+        byte[] fourCc = new byte[4];
+        in.readFully(fourCc);
+        return new String(fourCc, StandardCharsets.US_ASCII);
+    }
+
+    private static int readUInt16LittleEndian(DataInputStream in) throws IOException {
+        return in.readUnsignedByte() | (in.readUnsignedByte() << 8);
+    }
+
+    private static int readUInt24LittleEndian(DataInputStream in) throws IOException {
+        return in.readUnsignedByte() | (in.readUnsignedByte() << 8) | (in.readUnsignedByte() << 16);
+    }
+
+    private static long readUInt32LittleEndian(DataInputStream in) throws IOException {
+        return readUInt16LittleEndian(in) | ((long) readUInt16LittleEndian(in) << 16);
+    }
+}
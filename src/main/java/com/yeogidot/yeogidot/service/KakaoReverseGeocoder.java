@@ -0,0 +1,241 @@
+package com.yeogidot.yeogidot.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카카오 로컬 API 역지오코딩 (coord2regioncode)
+ * - 로컬 행정구역 경계 데이터 범위 밖 좌표의 대체 수단
+ * - 동시 호출 수 제한(벌크헤드): 자리가 없으면 잠시 기다린 뒤 "지역 미상"으로 처리
+ * - 서킷 브레이커: 연속 실패 시 일정 시간 호출하지 않고 즉시 "지역 미상" 반환
+ * - 호출 지연 시간을 히스토그램 지표(geocoding.kakao.requests)로 기록
+ */
+@Slf4j
+@Component
+@Order(2)
+public class KakaoReverseGeocoder implements ReverseGeocoder {
+
+    private static final String COORD2REGION_PATH = "/v2/local/geo/coord2regioncode.json?x={x}&y={y}";
+
+    private final RestTemplate restTemplate;
+    private final Semaphore bulkhead;
+    private final Duration bulkheadWait;
+    private final CircuitBreaker circuitBreaker;
+    private final Counter rejectedCounter;
+
+    // 호출 결과별 지연 시간 (생성 시 한 번만 등록하고 호출마다 기록만 함)
+    private final Timer successTimer;
+    private final Timer errorTimer;
+    private final Timer quotaExceededTimer;
+
+    @Value("${kakao.api.key}")
+    private String kakaoApiKey;
+
+    @Value("${geocoding.kakao-fallback-enabled:true}")
+    private boolean enabled;
+
+    public KakaoReverseGeocoder(
+            @Qualifier("kakaoRestTemplate") RestTemplate restTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${kakao.api.max-concurrency:8}") int maxConcurrency,
+            @Value("${kakao.api.bulkhead-wait:PT0.5S}") Duration bulkheadWait,
+            @Value("${kakao.api.circuit.failure-threshold:5}") int failureThreshold,
+            @Value("${kakao.api.circuit.open-duration:PT30S}") Duration openDuration
+    ) {
+        this.restTemplate = restTemplate;
+        this.bulkhead = new Semaphore(maxConcurrency);
+        this.bulkheadWait = bulkheadWait;
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openDuration);
+        this.rejectedCounter = Counter.builder("geocoding.kakao.rejected")
+                .description("서킷 브레이커/벌크헤드로 호출하지 않은 카카오 API 요청 수")
+                .register(meterRegistry);
+        this.successTimer = requestTimer(meterRegistry, "success");
+        this.errorTimer = requestTimer(meterRegistry, "error");
+        this.quotaExceededTimer = requestTimer(meterRegistry, "quota_exceeded");
+    }
+
+    private static Timer requestTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("geocoding.kakao.requests")
+                .description("카카오 역지오코딩 API 호출 지연 시간")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean isRemote() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 카카오 좌표 → 행정구역 API 호출
+     *
+     * @return 조회 결과, 해당 좌표에 행정구역이 없으면 RegionInfo.EMPTY, 일시적 실패 시 null (캐시하지 않음)
+     */
+    @Override
+    public GeoCodingService.RegionInfo reverseGeocode(BigDecimal latitude, BigDecimal longitude) {
+        // 벌크헤드 자리를 먼저 잡은 뒤 서킷에 묻기
+        // (서킷이 시험 호출을 허용한 뒤 벌크헤드에서 거절되면 시험 호출이 끝나지 않아 서킷이 계속 열려 있게 됨)
+        if (!acquireBulkhead()) {
+            rejectedCounter.increment();
+            log.warn("⚠️ 카카오 API 동시 호출 한도 초과 - 지역 미상 처리: ({}, {})", latitude, longitude);
+            return null;
+        }
+
+        if (!circuitBreaker.allowRequest()) {
+            bulkhead.release();
+            rejectedCounter.increment();
+            log.debug("카카오 API 서킷 열림 - 호출 생략: ({}, {})", latitude, longitude);
+            return null;
+        }
+
+        long start = System.nanoTime();
+        Timer outcome = errorTimer;
+        try {
+            GeoCodingService.RegionInfo result = request(latitude, longitude);
+            outcome = result == null ? errorTimer : successTimer;
+            return result;
+        } catch (RuntimeException e) {
+            outcome = quotaExceededTimer;
+            throw e;
+        } finally {
+            bulkhead.release();
+            if (outcome == successTimer) {
+                circuitBreaker.recordSuccess();
+            } else {
+                circuitBreaker.recordFailure();
+            }
+            outcome.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(bulkheadWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private GeoCodingService.RegionInfo request(BigDecimal latitude, BigDecimal longitude) {
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            headers.set("Authorization", "KakaoAK " + kakaoApiKey);
+
+            HttpEntity<String> entity = new HttpEntity<>(headers);
+            ResponseEntity<Map> response = restTemplate.exchange(
+                    COORD2REGION_PATH,
+                    HttpMethod.GET,
+                    entity,
+                    Map.class,
+                    longitude.toPlainString(),
+                    latitude.toPlainString()
+            );
+
+            Map<String, Object> body = response.getBody();
+            if (body != null && body.containsKey("documents")) {
+                Object documentsObj = body.get("documents");
+                if (!(documentsObj instanceof java.util.List<?>)) return null;
+                java.util.List<?> documents = (java.util.List<?>) documentsObj;
+
+                if (!documents.isEmpty()) {
+                    Object firstDocObj = documents.get(0);
+                    if (!(firstDocObj instanceof Map<?, ?> firstDoc)) return null;
+                    String region1depth = firstDoc.get("region_1depth_name") instanceof String s ? s : null;
+                    String region2depth = firstDoc.get("region_2depth_name") instanceof String s ? s : null;
+
+                    log.info("📍 역지오코딩 성공: ({}, {}) → {} {}", latitude, longitude, region1depth, region2depth);
+                    return new GeoCodingService.RegionInfo(region1depth, region2depth);
+                }
+                // 바다 등 행정구역이 없는 좌표 → 빈 결과도 캐싱해 반복 호출 방지
+                return GeoCodingService.RegionInfo.EMPTY;
+            }
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
+                log.error("🚨 카카오 API 일일 쿼터 초과. 오늘 더 이상 역지오코딩 불가.");
+                throw new RuntimeException("카카오 API 일일 사용량을 초과했습니다. 잠시 후 다시 시도해주세요.");
+            }
+            log.error("❌ 역지오코딩 실패 (HTTP {}): ({}, {}) - {}", e.getStatusCode(), latitude, longitude, e.getMessage());
+        } catch (Exception e) {
+            log.error("❌ 역지오코딩 실패: ({}, {}) - {}", latitude, longitude, e.getMessage());
+        }
+
+        return null;
+    }
+
+    /**
+     * 단순 서킷 브레이커
+     * - CLOSED: 정상 호출, 연속 실패가 임계치에 도달하면 OPEN
+     * - OPEN: openDuration 동안 호출 차단
+     * - 이후 한 건만 시험 호출(HALF_OPEN) → 성공하면 CLOSED, 실패하면 다시 OPEN
+     */
+    static class CircuitBreaker {
+        private final int failureThreshold;
+        private final long openDurationNanos;
+
+        private int consecutiveFailures;
+        private long openedAt;
+        private boolean open;
+        private boolean trialInProgress;
+
+        CircuitBreaker(int failureThreshold, Duration openDuration) {
+            this.failureThreshold = failureThreshold;
+            this.openDurationNanos = openDuration.toNanos();
+        }
+
+        synchronized boolean allowRequest() {
+            if (!open) {
+                return true;
+            }
+            if (!trialInProgress && System.nanoTime() - openedAt >= openDurationNanos) {
+                trialInProgress = true;
+                return true;
+            }
+            return false;
+        }
+
+        synchronized void recordSuccess() {
+            if (open) {
+                log.info("✅ 카카오 API 서킷 닫힘 (정상화)");
+            }
+            consecutiveFailures = 0;
+            open = false;
+            trialInProgress = false;
+        }
+
+        synchronized void recordFailure() {
+            consecutiveFailures++;
+            if (trialInProgress || (!open && consecutiveFailures >= failureThreshold)) {
+                log.warn("🚨 카카오 API 서킷 열림 - 연속 실패 {}회", consecutiveFailures);
+                open = true;
+                openedAt = System.nanoTime();
+                trialInProgress = false;
+            }
+        }
+    }
+}
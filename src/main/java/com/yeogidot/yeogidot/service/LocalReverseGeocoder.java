@@ -0,0 +1,225 @@
+package com.yeogidot.yeogidot.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로컬 행정구역 경계 기반 역지오코딩
+ * - 시작 시 시/군/구 경계 GeoJSON(FeatureCollection)을 읽어 격자 공간 인덱스에 적재
+ * - 조회는 격자 칸의 후보 경계만 점-폴리곤 포함 검사 (네트워크 호출 없음)
+ * - 경계 파일이 설정되지 않았거나 좌표가 데이터 범위 밖이면 null 반환 → 카카오 API로 대체
+ * - 시/도 또는 시/군/구 이름이 없는 경계도 판단하지 않음(null) → 카카오 API로 대체
+ *
+ * 경계 파일의 각 Feature는 Polygon 또는 MultiPolygon이며,
+ * properties에 시/도 이름과 시/군/구 이름을 가진다 (속성명은 설정으로 지정).
+ * 시/군/구 경계 파일(SIG)에 시/도 이름이 없다면 두 속성이 모두 들어 있도록 가공한 파일을 사용해야 한다.
+ */
+@Slf4j
+@Component
+@Order(1)
+@RequiredArgsConstructor
+public class LocalReverseGeocoder implements ReverseGeocoder {
+
+    // 격자 한 칸 크기 (0.05도 ≈ 5km)
+    private static final double CELL_SIZE = 0.05;
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${geocoding.local.boundary-file:}")
+    private String boundaryFile;
+
+    @Value("${geocoding.local.region1-property:CTP_KOR_NM}")
+    private String region1Property;
+
+    @Value("${geocoding.local.region2-property:SIG_KOR_NM}")
+    private String region2Property;
+
+    private List<Boundary> boundaries = List.of();
+    private Map<Long, int[]> gridIndex = Map.of();
+
+    @PostConstruct
+    void load() {
+        if (boundaryFile == null || boundaryFile.isBlank()) {
+            log.info("ℹ️ 로컬 행정구역 경계 파일 미설정 - 카카오 API로만 역지오코딩");
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        try (InputStream in = Files.newInputStream(Path.of(boundaryFile))) {
+            JsonNode features = objectMapper.readTree(in).path("features");
+
+            List<Boundary> loaded = new ArrayList<>();
+            for (JsonNode feature : features) {
+                Boundary boundary = toBoundary(feature);
+                if (boundary != null) {
+                    loaded.add(boundary);
+                }
+            }
+
+            long unnamed = loaded.stream().filter(boundary -> !boundary.isNamed()).count();
+            if (unnamed > 0) {
+                log.warn("⚠️ 시/도 또는 시/군/구 이름이 없는 경계 {}개 - 해당 지역은 카카오 API로 대체 (속성명: {}, {})",
+                        unnamed, region1Property, region2Property);
+            }
+
+            this.boundaries = List.copyOf(loaded);
+            this.gridIndex = buildGridIndex(this.boundaries);
+            log.info("✅ 로컬 행정구역 경계 적재 완료 - 경계 {}개, 격자 {}칸, 소요시간 {}ms",
+                    boundaries.size(), gridIndex.size(), System.currentTimeMillis() - start);
+        } catch (IOException e) {
+            // 경계 파일 문제로 서버가 뜨지 않는 일은 없도록 카카오 API 대체 모드로 동작
+            log.error("❌ 로컬 행정구역 경계 적재 실패 - 카카오 API로만 역지오코딩: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public GeoCodingService.RegionInfo reverseGeocode(BigDecimal latitude, BigDecimal longitude) {
+        if (gridIndex.isEmpty()) {
+            return null;
+        }
+
+        double lat = latitude.doubleValue();
+        double lng = longitude.doubleValue();
+
+        int[] candidates = gridIndex.get(cellKey(cellOf(lng), cellOf(lat)));
+        if (candidates == null) {
+            return null; // 데이터 범위 밖
+        }
+
+        for (int index : candidates) {
+            Boundary boundary = boundaries.get(index);
+            if (boundary.contains(lng, lat)) {
+                // 이름이 빠진 경계는 확정 결과로 쓰지 않음 (다음 구현체가 판단)
+                return boundary.isNamed()
+                        ? new GeoCodingService.RegionInfo(boundary.region1depth(), boundary.region2depth())
+                        : null;
+            }
+        }
+        return null; // 경계 사이 틈(해안선 등) → 카카오 API로 판단
+    }
+
+    private Boundary toBoundary(JsonNode feature) {
+        JsonNode geometry = feature.path("geometry");
+        JsonNode properties = feature.path("properties");
+
+        List<JsonNode> polygons = new ArrayList<>();
+        switch (geometry.path("type").asText()) {
+            case "Polygon" -> polygons.add(geometry.path("coordinates"));
+            case "MultiPolygon" -> geometry.path("coordinates").forEach(polygons::add);
+            default -> {
+                return null;
+            }
+        }
+
+        // 외곽선/구멍 구분 없이 모든 링을 모아 짝수-홀수 규칙으로 포함 여부 판단
+        List<double[]> ringXs = new ArrayList<>();
+        List<double[]> ringYs = new ArrayList<>();
+        double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+
+        for (JsonNode polygon : polygons) {
+            for (JsonNode ring : polygon) {
+                double[] xs = new double[ring.size()];
+                double[] ys = new double[ring.size()];
+                for (int i = 0; i < ring.size(); i++) {
+                    xs[i] = ring.get(i).get(0).asDouble();
+                    ys[i] = ring.get(i).get(1).asDouble();
+                    minX = Math.min(minX, xs[i]);
+                    maxX = Math.max(maxX, xs[i]);
+                    minY = Math.min(minY, ys[i]);
+                    maxY = Math.max(maxY, ys[i]);
+                }
+                ringXs.add(xs);
+                ringYs.add(ys);
+            }
+        }
+
+        if (ringXs.isEmpty()) {
+            return null;
+        }
+
+        return new Boundary(
+                textOrNull(properties, region1Property),
+                textOrNull(properties, region2Property),
+                minX, minY, maxX, maxY,
+                ringXs.toArray(new double[0][]),
+                ringYs.toArray(new double[0][])
+        );
+    }
+
+    private static Map<Long, int[]> buildGridIndex(List<Boundary> boundaries) {
+        Map<Long, List<Integer>> cells = new HashMap<>();
+        for (int i = 0; i < boundaries.size(); i++) {
+            Boundary b = boundaries.get(i);
+            for (int cx = cellOf(b.minX()); cx <= cellOf(b.maxX()); cx++) {
+                for (int cy = cellOf(b.minY()); cy <= cellOf(b.maxY()); cy++) {
+                    cells.computeIfAbsent(cellKey(cx, cy), k -> new ArrayList<>()).add(i);
+                }
+            }
+        }
+
+        Map<Long, int[]> index = new HashMap<>(cells.size() * 2);
+        cells.forEach((key, list) -> index.put(key, list.stream().mapToInt(Integer::intValue).toArray()));
+        return index;
+    }
+
+    private static int cellOf(double degree) {
+        return (int) Math.floor(degree / CELL_SIZE);
+    }
+
+    private static long cellKey(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xffffffffL);
+    }
+
+    private static String textOrNull(JsonNode properties, String name) {
+        JsonNode value = properties.get(name);
+        return value == null || value.isNull() || value.asText().isBlank() ? null : value.asText();
+    }
+
+    /**
+     * 행정구역 경계 하나 (좌표는 경도=x, 위도=y)
+     */
+    private record Boundary(String region1depth, String region2depth,
+                            double minX, double minY, double maxX, double maxY,
+                            double[][] ringXs, double[][] ringYs) {
+
+        boolean isNamed() {
+            return region1depth != null && region2depth != null;
+        }
+
+        boolean contains(double x, double y) {
+            if (x < minX || x > maxX || y < minY || y > maxY) {
+                return false;
+            }
+
+            boolean inside = false;
+            for (int r = 0; r < ringXs.length; r++) {
+                double[] xs = ringXs[r];
+                double[] ys = ringYs[r];
+                for (int i = 0, j = xs.length - 1; i < xs.length; j = i++) {
+                    if ((ys[i] > y) != (ys[j] > y)
+                            && x < (xs[j] - xs[i]) * (y - ys[i]) / (ys[j] - ys[i]) + xs[i]) {
+                        inside = !inside;
+                    }
+                }
+            }
+            return inside;
+        }
+    }
+}
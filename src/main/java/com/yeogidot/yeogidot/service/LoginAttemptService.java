@@ -2,42 +2,46 @@ package com.yeogidot.yeogidot.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
 
 /**
- * 로그인 시도 제한 서비스 (Redis 기반)
- * - 5회 실패 시 5분간 잠금
- * - 로그인 성공 시 시도 횟수 초기화
+ * 로그인 시도 제한 서비스 (RateLimiter 슬라이딩 윈도우)
+ * - 최근 5분 안에 5회 시도하면 차단 (가장 오래된 시도가 5분을 지나면 다시 시도 가능)
+ * - 비밀번호 확인 전에 한도 확인 + 시도 기록을 스크립트 하나로 원자적으로 실행 (동시 실패가 한도를 넘지 못함)
+ * - 로그인 성공 시 시도 기록 초기화 → 결과적으로 실패한 시도만 남음
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class LoginAttemptService {
 
-    private final RedisTemplate<String, String> redisTemplate;
+    private final RateLimiter rateLimiter;
 
     private static final String KEY_PREFIX = "login_attempt:";
-    private static final int MAX_ATTEMPTS = 5;      // 최대 시도 횟수
-    private static final long LOCK_DURATION = 5;    // 잠금 시간 (분)
+    private static final int MAX_ATTEMPTS = 5;                          // 최대 시도 횟수
+    private static final Duration WINDOW = Duration.ofMinutes(5);       // 실패를 세는 기간
 
     /**
-     * 로그인 실패 처리
-     * - 실패 횟수 증가
-     * - 5회 초과 시 5분간 잠금
+     * 로그인 시도 기록 (비밀번호 확인 전에 호출)
+     *
+     * @return 한도 이내면 시도를 기록하고 true, 초과면 기록하지 않고 false
      */
-    public void loginFailed(String email, String ip) {
-        String key = KEY_PREFIX + email + ":" + ip;
-        Long attempts = redisTemplate.opsForValue().increment(key);
-
-        if (attempts == 1) {
-            // 첫 실패 시 TTL 설정 (5분)
-            redisTemplate.expire(key, LOCK_DURATION, TimeUnit.MINUTES);
+    public boolean tryAttempt(String email, String ip) {
+        RateLimiter.Decision decision = rateLimiter.tryAcquire(key(email, ip), MAX_ATTEMPTS, WINDOW);
+        if (!decision.allowed()) {
+            log.warn("🚫 로그인 차단: {} [IP: {}] - {}회 초과, {}초 후 해제",
+                    email, ip, MAX_ATTEMPTS, decision.retryAfter().toSeconds());
         }
+        return decision.allowed();
+    }
 
-        log.warn("🔐 로그인 실패: {} [IP: {}] - {}회 시도", email, ip, attempts);
+    /**
+     * 로그인 실패 처리 - 시도는 tryAttempt에서 이미 기록됨 (Redis 호출 없음)
+     */
+    public void loginFailed(String email, String ip) {
+        log.warn("🔐 로그인 실패: {} [IP: {}]", email, ip);
     }
 
     /**
@@ -45,39 +49,18 @@ public class LoginAttemptService {
      * - 시도 횟수 초기화
      */
     public void loginSucceeded(String email, String ip) {
-        String key = KEY_PREFIX + email + ":" + ip;
-        redisTemplate.delete(key);
+        rateLimiter.reset(key(email, ip));
         log.info("✅ 로그인 성공: {} [IP: {}] - 시도 횟수 초기화", email, ip);
     }
 
-    /**
-     * 계정 잠금 여부 확인
-     */
-    public boolean isBlocked(String email, String ip) {
-        String key = KEY_PREFIX + email + ":" + ip;
-        String attempts = redisTemplate.opsForValue().get(key);
-
-        if (attempts == null) return false;
-
-        try {
-            boolean blocked = Integer.parseInt(attempts) >= MAX_ATTEMPTS;
-            if (blocked) {
-                log.warn("🚫 로그인 차단: {} [IP: {}] - {}회 초과", email, ip, attempts);
-            }
-            return blocked;
-        } catch (NumberFormatException e) {
-            log.error("❌ 로그인 시도 횟수 파싱 오류: {}", attempts);
-            return false;
-        }
-    }
-
     /**
      * 남은 시도 횟수 반환
      */
     public int getRemainingAttempts(String email, String ip) {
-        String key = KEY_PREFIX + email + ":" + ip;
-        String attempts = redisTemplate.opsForValue().get(key);
-        if (attempts == null) return MAX_ATTEMPTS;
-        return Math.max(0, MAX_ATTEMPTS - Integer.parseInt(attempts));
+        return (int) rateLimiter.check(key(email, ip), MAX_ATTEMPTS, WINDOW).remaining();
+    }
+
+    private static String key(String email, String ip) {
+        return KEY_PREFIX + email + ":" + ip;
     }
 }
@@ -0,0 +1,208 @@
+package com.yeogidot.yeogidot.service;
+
+import com.yeogidot.yeogidot.entity.Photo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 지도 격자 집계(photo_geo_tile) 유지
+ * - 사진 추가/삭제/위치 수정 시 호출한 쪽 트랜잭션에 참여해 1~MAX_PRECISION 자리 격자의 사진 수/위치 합을 증감
+ * - 엔티티가 있는 경로(업로드, 단건 삭제, 위치 수정)는 메모리에서 격자별 증감을 모아 한 번에 UPSERT
+ * - 일괄 삭제 경로(여행/일차/회원탈퇴)는 삭제 직전에 photo 테이블에서 격자별로 집계해 차감 (사진을 로드하지 않음)
+ * - 여러 사진의 격자를 같은 순서(유저 → 격자)로 갱신해 동시 업로드 간 교착 상태를 피함
+ */
+@Service
+@RequiredArgsConstructor
+public class PhotoGeoTileService {
+
+    // 집계하는 최대 자리수 (지도 줌 최대값의 격자 자리수와 같음)
+    public static final int MAX_PRECISION = 8;
+
+    private static final String INSERT_INTO =
+            "INSERT INTO photo_geo_tile (user_id, precision_level, cell, photo_count, latitude_sum, longitude_sum, sample_photo_id) ";
+
+    // 새 값은 행 별칭(delta)으로 참조 (VALUES() 함수는 MySQL 8.0.20부터 deprecated, 별칭은 8.0.19+)
+    private static final String DELTA_COLUMNS = "delta(d_user, d_precision, d_cell, d_count, d_lat, d_lng, d_sample)";
+
+    private static final String UPSERT_SUFFIX =
+            " ON DUPLICATE KEY UPDATE " +
+                    "photo_count = photo_count + delta.d_count, " +
+                    "latitude_sum = latitude_sum + delta.d_lat, " +
+                    "longitude_sum = longitude_sum + delta.d_lng, " +
+                    "sample_photo_id = IF(delta.d_sample IS NULL, sample_photo_id, " +
+                    "GREATEST(COALESCE(sample_photo_id, 0), delta.d_sample))";
+
+    private static final String UPSERT =
+            INSERT_INTO + "VALUES (?, ?, ?, ?, ?, ?, ?) AS " + DELTA_COLUMNS + UPSERT_SUFFIX;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 저장된 사진을 격자에 더함 (id가 할당된 뒤 호출)
+     */
+    @Transactional
+    public void addPhotos(Collection<Photo> photos) {
+        apply(photos, 1);
+    }
+
+    /**
+     * 사진을 격자에서 뺌 (삭제 전, 또는 위치 수정 전에 기존 위치로 호출)
+     */
+    @Transactional
+    public void removePhotos(Collection<Photo> photos) {
+        if (apply(photos, -1) == 0) {
+            return;
+        }
+        List<Long> photoIds = photos.stream().map(Photo::getId).toList();
+        List<Long> userIds = photos.stream().map(photo -> photo.getUser().getId()).distinct().toList();
+        String photoIn = placeholders(photoIds.size());
+        String userIn = placeholders(userIds.size());
+
+        List<Object> args = new ArrayList<>(userIds);
+        args.addAll(photoIds);
+        jdbcTemplate.update("UPDATE photo_geo_tile SET sample_photo_id = NULL " +
+                "WHERE user_id IN (" + userIn + ") AND sample_photo_id IN (" + photoIn + ")", args.toArray());
+        jdbcTemplate.update("DELETE FROM photo_geo_tile WHERE user_id IN (" + userIn + ") AND photo_count <= 0",
+                userIds.toArray());
+    }
+
+    /**
+     * 여행 삭제 전 해당 여행 사진을 격자에서 뺌
+     */
+    @Transactional
+    public void removeByTravelId(Long travelId) {
+        removeWhere("day_id IN (SELECT d.day_id FROM travel_day d WHERE d.travel_id = ?)", travelId);
+    }
+
+    /**
+     * 일차 삭제 전 해당 일차 사진을 격자에서 뺌
+     */
+    @Transactional
+    public void removeByTravelDayId(Long dayId) {
+        removeWhere("day_id = ?", dayId);
+    }
+
+    /**
+     * 회원탈퇴 전: 유저 여행에 속한 다른 유저의 사진을 빼고, 유저의 격자는 모두 삭제
+     */
+    @Transactional
+    public void removeByOwnerId(Long userId) {
+        removeWhere("user_id <> ? AND day_id IN (SELECT d.day_id FROM travel_day d " +
+                "JOIN travel t ON t.travel_id = d.travel_id WHERE t.user_id = ?)", userId, userId);
+        jdbcTemplate.update("DELETE FROM photo_geo_tile WHERE user_id = ?", userId);
+    }
+
+    /**
+     * photo 테이블에서 전체 격자를 다시 계산 (기존 값은 덮어씀, 여러 번 실행해도 결과가 같음)
+     */
+    public int rebuildAll() {
+        int total = 0;
+        for (int precision = 1; precision <= MAX_PRECISION; precision++) {
+            total += jdbcTemplate.update(INSERT_INTO + "SELECT * FROM (" +
+                    "SELECT user_id, " + precision + ", LEFT(geohash, " + precision + ") AS tile_cell, " +
+                    "COUNT(*), SUM(latitude), SUM(longitude), MAX(photo_id) " +
+                    "FROM photo WHERE geohash IS NOT NULL " +
+                    "GROUP BY user_id, tile_cell) AS " + DELTA_COLUMNS +
+                    " ON DUPLICATE KEY UPDATE photo_count = delta.d_count, " +
+                    "latitude_sum = delta.d_lat, longitude_sum = delta.d_lng, " +
+                    "sample_photo_id = delta.d_sample");
+        }
+        return total;
+    }
+
+    // 엔티티 값으로 격자별 증감을 모아 UPSERT, 갱신한 격자 수 반환
+    private int apply(Collection<Photo> photos, int sign) {
+        Map<TileKey, TileDelta> deltas = new TreeMap<>();
+        for (Photo photo : photos) {
+            String geohash = photo.getGeohash();
+            if (geohash == null || photo.getLatitude() == null || photo.getLongitude() == null) {
+                continue;
+            }
+            Long userId = photo.getUser().getId();
+            for (int precision = 1; precision <= Math.min(MAX_PRECISION, geohash.length()); precision++) {
+                deltas.computeIfAbsent(new TileKey(userId, geohash.substring(0, precision)), key -> new TileDelta())
+                        .add(photo, sign);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((key, delta) -> rows.add(new Object[]{
+                key.userId(), key.cell().length(), key.cell(),
+                delta.count, delta.latitudeSum, delta.longitudeSum, delta.samplePhotoId}));
+        jdbcTemplate.batchUpdate(UPSERT, rows);
+        return rows.size();
+    }
+
+    // 조건에 맞는 사진을 photo 테이블에서 격자별로 집계해 차감 (해당 사진이 삭제되기 전에 호출)
+    private void removeWhere(String scope, Object... args) {
+        // 자리수는 상수라 문자열로 넣음 (GROUP BY와 SELECT의 LEFT() 식이 같아야 함)
+        for (int precision = 1; precision <= MAX_PRECISION; precision++) {
+            // INSERT ... SELECT는 파생 테이블로 감싸야 UPDATE 절에서 집계값을 별칭으로 참조할 수 있음
+            jdbcTemplate.update(INSERT_INTO + "SELECT * FROM (" +
+                    "SELECT user_id, " + precision + ", LEFT(geohash, " + precision + ") AS tile_cell, " +
+                    "-COUNT(*), -SUM(latitude), -SUM(longitude), NULL " +
+                    "FROM photo WHERE geohash IS NOT NULL AND (" + scope + ") " +
+                    "GROUP BY user_id, tile_cell) AS " + DELTA_COLUMNS + UPSERT_SUFFIX, args);
+        }
+
+        // 삭제될 사진이 대표인 격자는 비워두고(조회 시 대체), 빈 격자는 삭제
+        String users = "SELECT DISTINCT user_id FROM photo WHERE (" + scope + ")";
+        jdbcTemplate.update("UPDATE photo_geo_tile SET sample_photo_id = NULL " +
+                "WHERE user_id IN (" + users + ") " +
+                "AND sample_photo_id IN (SELECT photo_id FROM photo WHERE (" + scope + "))", concat(args, args));
+        jdbcTemplate.update("DELETE FROM photo_geo_tile WHERE user_id IN (" + users + ") AND photo_count <= 0", args);
+    }
+
+    private static Object[] concat(Object[] first, Object[] second) {
+        Object[] result = new Object[first.length + second.length];
+        System.arraycopy(first, 0, result, 0, first.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private record TileKey(Long userId, String cell) implements Comparable<TileKey> {
+        @Override
+        public int compareTo(TileKey other) {
+            int byUser = userId.compareTo(other.userId);
+            return byUser != 0 ? byUser : cell.compareTo(other.cell);
+        }
+    }
+
+    private static class TileDelta {
+        private long count;
+        private BigDecimal latitudeSum = BigDecimal.ZERO;
+        private BigDecimal longitudeSum = BigDecimal.ZERO;
+        private Long samplePhotoId;  // 더할 때만 (가장 최근 사진), 뺄 때는 null
+
+        void add(Photo photo, int sign) {
+            count += sign;
+            if (sign > 0) {
+                latitudeSum = latitudeSum.add(photo.getLatitude());
+                longitudeSum = longitudeSum.add(photo.getLongitude());
+                if (samplePhotoId == null || photo.getId() > samplePhotoId) {
+                    samplePhotoId = photo.getId();
+                }
+            } else {
+                latitudeSum = latitudeSum.subtract(photo.getLatitude());
+                longitudeSum = longitudeSum.subtract(photo.getLongitude());
+            }
+        }
+    }
+}
@@ -7,27 +7,34 @@ import com.yeogidot.yeogidot.dto.PhotoDto;
 import com.yeogidot.yeogidot.dto.TravelDto;
 import com.yeogidot.yeogidot.entity.*;
 import com.yeogidot.yeogidot.repository.CommentRepository;
+import com.yeogidot.yeogidot.repository.PhotoGeoTileRepository;
 import com.yeogidot.yeogidot.repository.PhotoRepository;
 import com.yeogidot.yeogidot.repository.TravelDayRepository;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.Set;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -36,18 +43,23 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class PhotoService {
 
-    // 동시 업로드 수 제한 (최대 3장): 폰 사진 다수 동시 처리 시 OOM 방지
-    private static final Semaphore uploadSemaphore = new Semaphore(3);
-
     private final PhotoRepository photoRepository;
+    private final PhotoGeoTileRepository photoGeoTileRepository;
+    private final PhotoGeoTileService photoGeoTileService;
     private final CommentRepository commentRepository;
     private final GcsService gcsService;
     private final GeoCodingService geoCodingService;
     private final ObjectMapper objectMapper;
     private final TravelDayRepository travelDayRepository;
+    private final UploadConcurrencyLimiter uploadConcurrencyLimiter;
+    private final ImageHeaderSniffer imageHeaderSniffer;
+    private final ExifReader exifReader;
+    private final UploadSessionService uploadSessionService;
+    private final StorageDeletionService storageDeletionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * 프론트엔드에서 받는 메타데이터 DTO
+     * 프론트엔드에서 받는 메타데이터 DTO (선택 - 값이 있는 항목만 EXIF 값 대신 사용)
      */
     @Data
     public static class PhotoMetaDto {
@@ -69,10 +81,32 @@ public class PhotoService {
             ".jpg", ".jpeg", ".png", ".webp"
     );
 
+    // 확장자별 실제 파일 형식 (헤더 검사 결과와 일치해야 함)
+    private static final Map<String, ImageHeaderSniffer.Format> EXTENSION_FORMATS = Map.of(
+            ".jpg", ImageHeaderSniffer.Format.JPEG,
+            ".jpeg", ImageHeaderSniffer.Format.JPEG,
+            ".png", ImageHeaderSniffer.Format.PNG,
+            ".webp", ImageHeaderSniffer.Format.WEBP
+    );
+
+    // 지도 클러스터 최대 개수 (응답 크기 상한)
+    private static final int MAX_MAP_CLUSTERS = 300;
+    // 지도 조회 1회에 조회하는 최대 격자 수 (영역을 덮는 격자 목록 크기)
+    private static final int MAX_COVERING_CELLS = 1024;
+
+    // 보관함 한 페이지 최대 사진 수
+    private static final int LIBRARY_MAX_PAGE_SIZE = 100;
+
+    // 보관함 촬영일 범위 기본값 (MySQL DATETIME 표현 범위)
+    private static final LocalDateTime LIBRARY_MIN_TIME = LocalDateTime.of(1000, 1, 1, 0, 0);
+    private static final LocalDateTime LIBRARY_MAX_TIME = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
     /**
      * 여러 사진 업로드 (여행에 연결하지 않고 독립적으로 저장)
+     * - 트랜잭션 없이 실행: 파일 업로드 동안 DB 커넥션을 잡지 않고,
+     *   세션 기록/사진 저장만 UploadSessionService의 짧은 트랜잭션으로 처리
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<Photo> uploadPhotos(List<MultipartFile> files, String metadataJson, User user) throws IOException {
         // 파일 타입 검증 (MIME 타입 + 확장자 + 실제 이미지 내용 검사)
         for (MultipartFile file : files) {
@@ -102,141 +136,213 @@ public class PhotoService {
             }
 
             // 3. 실제 이미지 파일 내용 검사 (확장자·MIME 타입 모두 속여도 차단)
-            // WebP는 Java 기본 ImageIO 미지원 → null 반환으로 false positive 발생
-            // webp-imageio 등 외부 라이브러리는 Java 21 / Spring Boot 3.x 환경에서
-            // JNI 로딩 실패 및 리눅스 배포 환경 네이티브 바이너리 불일치 위험이 있어 미적용
-            // WebP는 MIME 타입 + 확장자 2단계 검증으로 충분하다고 판단하여 내용 검사 건너뜀
-            if (!ext.equals(".webp")) {
-                try (InputStream is = file.getInputStream()) {
-                    BufferedImage image = ImageIO.read(is);
-                    if (image == null) {
-                        throw new IllegalArgumentException(
-                                "유효하지 않은 이미지 파일입니다: " + originalFilename + ". 실제 이미지 데이터가 아닙니다."
-                        );
-                    }
-                } catch (IllegalArgumentException e) {
-                    throw e; // 위에서 던진 예외는 그대로 전파
-                } catch (IOException e) {
-                    throw new IllegalArgumentException("이미지 파일을 읽는 중 오류가 발생했습니다: " + originalFilename, e);
-                }
+            // 픽셀을 디코딩하지 않고 시그니처와 헤더만 읽어 형식과 크기를 확인 (WebP 포함)
+            ImageHeaderSniffer.ImageInfo imageInfo;
+            try (InputStream is = file.getInputStream()) {
+                imageInfo = imageHeaderSniffer.sniff(is);
+            } catch (IOException e) {
+                throw new IllegalArgumentException("이미지 파일을 읽는 중 오류가 발생했습니다: " + originalFilename, e);
             }
-        }
 
-        // JSON 파싱 시도 - 형식 오류는 명확한 예외로 변환
-        List<PhotoMetaDto> metaList;
-        try {
-            metaList = objectMapper.readValue(metadataJson, new TypeReference<>() {
-            });
-        } catch (JsonProcessingException e) {
-            // JSON 파싱 실패 → 400 Bad Request
-            throw new IllegalArgumentException(
-                    "메타데이터 형식이 올바르지 않습니다. JSON 배열 형식이어야 합니다. " +
-                            "예시: [{\"originalName\":\"photo1.jpg\",\"takenAt\":\"2025-11-12T10:00:00\",\"latitude\":35.1584,\"longitude\":129.1603}]",
-                    e
-            );
+            if (imageInfo == null || imageInfo.format() != EXTENSION_FORMATS.get(ext)) {
+                throw new IllegalArgumentException(
+                        "유효하지 않은 이미지 파일입니다: " + originalFilename + ". 실제 이미지 데이터가 아닙니다."
+                );
+            }
+
+            // 4. 압축 폭탄 차단: 헤더에 선언된 해상도가 상한을 넘으면 디코딩 전에 거절
+            if (!imageHeaderSniffer.isWithinPixelLimit(imageInfo)) {
+                throw new IllegalArgumentException(
+                        "이미지 해상도가 너무 큽니다: " + originalFilename + " (" + imageInfo.width() + "x" + imageInfo.height()
+                                + "). 최대 " + imageHeaderSniffer.getMaxPixels() + "픽셀까지 업로드 가능합니다."
+                );
+            }
         }
 
-        if (files.size() != metaList.size()) {
-            throw new IllegalArgumentException("파일 개수와 메타데이터 개수가 일치하지 않습니다.");
+        // 메타데이터 결정: 파일의 EXIF 값을 기본으로 하고, 클라이언트가 보낸 메타데이터가 있으면 덮어씀
+        List<PhotoMetaDto> overrides = parseMetadata(metadataJson);
+        List<ResolvedMeta> metaList = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            metaList.add(resolveMeta(files.get(i), findOverride(overrides, files, i)));
         }
 
         long totalStart = System.currentTimeMillis();
         log.info("===== 사진 업로드 시작: 총 {}장 =====", files.size());
 
-        // ✅ 비동기 병렬처리: GCS 업로드 + 카카오 API를 모든 사진 동시에 실행
-        List<CompletableFuture<Photo>> futures = new ArrayList<>();
+        // 카카오 역지오코딩: 모든 사진 좌표를 격자 단위로 중복 제거해 한 번에 조회
+        long geoStart = System.currentTimeMillis();
+        Map<GeoCodingService.Coordinate, GeoCodingService.RegionInfo> regions = geoCodingService.resolveAll(
+                metaList.stream()
+                        .map(meta -> GeoCodingService.Coordinate.of(meta.latitude(), meta.longitude()))
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList())
+        );
+        log.info("일괄 역지오코딩 소요시간: {}ms", System.currentTimeMillis() - geoStart);
+
+        // 저장 키를 미리 정해 업로드 세션에 기록 (실패/중단 시 백그라운드 정리 대상)
+        List<GcsService.UploadPlan> plans = files.stream().map(gcsService::plan).collect(Collectors.toList());
+        Long sessionId = uploadSessionService.open(user.getId(), plans.stream()
+                .flatMap(plan -> gcsService.plannedUrls(plan).stream())
+                .collect(Collectors.toList()));
+
+        // ✅ 비동기 병렬처리: 이미지 압축은 업로드 전용 실행기에서 실행
+        // (전역/사용자별 동시 실행 수 제한, 대기열 초과 시 429)
+        // R2 전송은 S3AsyncClient가 비동기로 처리하므로 전송 중에는 실행기 자리를 차지하지 않음
+        // (동시 실행 permit과 대기열 자리는 전송이 끝날 때까지 유지)
+        List<Callable<CompletableFuture<Photo>>> tasks = new ArrayList<>();
 
         for (int i = 0; i < files.size(); i++) {
             final int index = i;
             final MultipartFile file = files.get(i);
-            final PhotoMetaDto meta = metaList.get(i);
+            final ResolvedMeta meta = metaList.get(i);
+            final GcsService.UploadPlan plan = plans.get(i);
 
-            CompletableFuture<Photo> future = CompletableFuture.supplyAsync(() -> {
-                try {
-                    // Semaphore 획득: 최대 3장만 동시 실행, 나머지는 대기
-                    uploadSemaphore.acquire();
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    throw new RuntimeException("업로드 대기 중 인터럽트", e);
-                }
+            tasks.add(() -> {
                 try {
                     log.info("----- 사진 {}/{} 처리 시작 (병렬) -----", index + 1, files.size());
 
-                    // 1. GCS 업로드 (여러 사진 동시 실행)
-                    long gcsStart = System.currentTimeMillis();
-                    String gcsUrl = gcsService.uploadFile(file);
-                    log.info("[{}번] R2 업로드 소요시간: {}ms", index + 1, System.currentTimeMillis() - gcsStart);
-
-                    // 2. 좌표 처리
-                    BigDecimal lat = meta.getLatitude() != null
-                            ? BigDecimal.valueOf(meta.getLatitude()) : null;
-                    BigDecimal lng = meta.getLongitude() != null
-                            ? BigDecimal.valueOf(meta.getLongitude()) : null;
+                    // 1. 좌표 (EXIF 또는 클라이언트 메타데이터)
+                    BigDecimal lat = meta.latitude();
+                    BigDecimal lng = meta.longitude();
 
-                    // 3. 카카오 역지오코딩 (캐싱 적용되어 있어 같은 지역이면 즉시 반환)
+                    // 2. 지역 정보 (업로드 전에 일괄 조회한 결과 사용)
                     String region = null;
                     if (lat != null && lng != null) {
-                        long kakaoStart = System.currentTimeMillis();
-                        region = geoCodingService.getDistrictFromCoordinates(lat, lng);
-                        log.info("[{}번] 카카오 역지오코딩 소요시간: {}ms", index + 1, System.currentTimeMillis() - kakaoStart);
+                        GeoCodingService.RegionInfo regionInfo = regions.get(GeoCodingService.Coordinate.snap(lat, lng));
+                        region = regionInfo != null ? regionInfo.getDistrictName() : null;
                     }
 
-                    // 4. 촬영 시간 파싱
-                    LocalDateTime takenAt = parseTakenAt(meta.getTakenAt());
+                    final String photoRegion = region;
 
-                    // 5. Photo 엔티티 생성 (DB 저장은 아직 안 함)
-                    return Photo.builder()
-                            .user(user)
-                            .filePath(gcsUrl)
-                            .originalName(meta.getOriginalName())
-                            .takenAt(takenAt)
-                            .latitude(lat)
-                            .longitude(lng)
-                            .region(region)
-                            .build();
+                    // 3. R2 업로드 (여러 사진 동시 전송) → 완료되면 Photo 엔티티 생성 (DB 저장은 아직 안 함)
+                    long gcsStart = System.currentTimeMillis();
+                    return gcsService.uploadFileAsync(file, plan)
+                            .thenApply(uploaded -> {
+                                log.info("[{}번] R2 업로드 소요시간: {}ms", index + 1, System.currentTimeMillis() - gcsStart);
+                                return Photo.builder()
+                                        .user(user)
+                                        .filePath(uploaded.originalUrl())
+                                        .mediumPath(uploaded.mediumUrl())
+                                        .thumbnailPath(uploaded.thumbnailUrl())
+                                        .originalName(meta.originalName())
+                                        .takenAt(meta.takenAt())
+                                        .latitude(lat)
+                                        .longitude(lng)
+                                        .region(photoRegion)
+                                        .build();
+                            });
 
                 } catch (IOException e) {
                     throw new RuntimeException(index + 1 + "번 사진 처리 실패", e);
-                } finally {
-                    uploadSemaphore.release(); // 반드시 반환 (예외 발생해도)
                 }
             });
+        }
+
+        // 모든 병렬 작업 완료 대기 후 짧은 트랜잭션으로 사진 저장 + 세션 확정
+        List<Photo> savedPhotos;
+        try {
+            List<CompletableFuture<Photo>> futures = uploadConcurrencyLimiter.submitAll(user.getId(), tasks);
+
+            // 하나가 실패해도 나머지 작업이 모두 끝날 때까지 기다린 뒤 결과 확인
+            // (먼저 세션을 중단하면 아직 전송 중인 파일이 정리 이후에 올라가 고아 파일로 남을 수 있음)
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .handle((ignored, error) -> null)
+                    .join();
+
+            List<Photo> uploadedPhotos = new ArrayList<>(futures.size());
+            for (CompletableFuture<Photo> future : futures) {
+                uploadedPhotos.add(future.join()); // 이미 완료됨 (실패한 작업이 있으면 여기서 예외)
+            }
 
-            futures.add(future);
+            long dbStart = System.currentTimeMillis();
+            savedPhotos = uploadSessionService.commit(sessionId, uploadedPhotos);
+            log.info("DB 저장 소요시간: {}ms ({}장)", System.currentTimeMillis() - dbStart, savedPhotos.size());
+        } catch (RuntimeException e) {
+            // 업로드 또는 DB 저장 실패 → 모든 전송이 끝난 뒤 세션 중단 (올라간 파일은 UploadSessionSweeper가 삭제)
+            log.error("❌ 사진 업로드 실패, 업로드 세션 중단 - sessionId: {}", sessionId);
+            uploadSessionService.abort(sessionId);
+            throw e;
         }
 
-        //  모든 병렬 작업 완료 대기 후 DB에 순차 저장
-        // (DB 저장은 @Transactional이 메인 스레드에서 동작하므로 여기서 처리)
-        List<Photo> uploadedPhotos = new ArrayList<>(); // GCS 업로드 완료된 사진들 추적
-        List<Photo> savedPhotos = new ArrayList<>();
+        log.info("===== 사진 업로드 완료: 총 소요시간 {}ms =====", System.currentTimeMillis() - totalStart);
+
+        return savedPhotos;
+    }
 
+    private static BigDecimal toBigDecimal(Double value) {
+        return value != null ? BigDecimal.valueOf(value) : null;
+    }
+
+    /**
+     * 파일별로 확정된 메타데이터 (EXIF + 클라이언트 덮어쓰기 결과)
+     */
+    private record ResolvedMeta(String originalName, LocalDateTime takenAt, BigDecimal latitude, BigDecimal longitude) {
+    }
+
+    /**
+     * 클라이언트 메타데이터 JSON 파싱 (없으면 빈 목록) - 형식 오류는 명확한 예외로 변환
+     */
+    private List<PhotoMetaDto> parseMetadata(String metadataJson) {
+        if (metadataJson == null || metadataJson.isBlank()) {
+            return List.of();
+        }
         try {
-            for (CompletableFuture<Photo> future : futures) {
-                Photo photo = future.join(); // 각 작업 완료될 때까지 대기
-                uploadedPhotos.add(photo);  // GCS 업로드 완료 목록에 추가
+            List<PhotoMetaDto> parsed = objectMapper.readValue(metadataJson, new TypeReference<>() {
+            });
+            return parsed != null ? parsed : List.of();
+        } catch (JsonProcessingException e) {
+            // JSON 파싱 실패 → 400 Bad Request
+            throw new IllegalArgumentException(
+                    "메타데이터 형식이 올바르지 않습니다. JSON 배열 형식이어야 합니다. " +
+                            "예시: [{\"originalName\":\"photo1.jpg\",\"takenAt\":\"2025-11-12T10:00:00\",\"latitude\":35.1584,\"longitude\":129.1603}]",
+                    e
+            );
+        }
+    }
 
-                long dbStart = System.currentTimeMillis();
-                Photo saved = photoRepository.save(photo);
-                log.info("DB 저장 소요시간: {}ms", System.currentTimeMillis() - dbStart);
-                savedPhotos.add(saved);
-            }
-        } catch (Exception e) {
-            // DB 저장 실패 시 이미 GCS에 올라간 파일들 모두 삭제
-            log.error("❌ DB 저장 실패, GCS 파일 롤백 시작 - 삭제 대상: {}장", uploadedPhotos.size());
-            for (Photo photo : uploadedPhotos) {
-                try {
-                    gcsService.deleteFile(photo.getFilePath());
-                    log.info("🗑️ GCS 롤백 삭제: {}", photo.getFilePath());
-                } catch (Exception deleteException) {
-                    log.error("❌ GCS 롤백 삭제 실패: {}", photo.getFilePath(), deleteException);
+    /**
+     * 파일에 적용할 클라이언트 메타데이터 찾기
+     * - originalName이 파일명과 같은 항목 우선
+     * - 없으면 파일 개수와 메타데이터 개수가 같을 때만 같은 순서의 항목 사용
+     */
+    private PhotoMetaDto findOverride(List<PhotoMetaDto> overrides, List<MultipartFile> files, int index) {
+        String filename = files.get(index).getOriginalFilename();
+        if (filename != null) {
+            for (PhotoMetaDto override : overrides) {
+                if (filename.equals(override.getOriginalName())) {
+                    return override;
                 }
             }
-            throw e; // 예외 다시 던져서 트랜잭션 롤백
         }
+        return overrides.size() == files.size() ? overrides.get(index) : null;
+    }
 
-        log.info("===== 사진 업로드 완료: 총 소요시간 {}ms =====", System.currentTimeMillis() - totalStart);
+    /**
+     * EXIF에서 촬영 시간/좌표를 읽고, 클라이언트 값이 있는 항목만 덮어씀
+     */
+    private ResolvedMeta resolveMeta(MultipartFile file, PhotoMetaDto override) throws IOException {
+        ExifReader.ExifData exif;
+        try (InputStream is = file.getInputStream()) {
+            exif = exifReader.read(is);
+        }
 
-        return savedPhotos;
+        String originalName = override != null && override.getOriginalName() != null
+                ? override.getOriginalName()
+                : file.getOriginalFilename();
+
+        LocalDateTime takenAt = override != null && override.getTakenAt() != null
+                ? parseTakenAt(override.getTakenAt())
+                : exif.takenAt();
+        if (takenAt == null) {
+            throw new IllegalArgumentException("촬영 날짜가 없는 사진은 업로드할 수 없습니다: " + file.getOriginalFilename());
+        }
+
+        // 좌표는 위도/경도를 한 쌍으로만 덮어씀
+        boolean overrideLocation = override != null && override.getLatitude() != null && override.getLongitude() != null;
+        BigDecimal latitude = toBigDecimal(overrideLocation ? override.getLatitude() : exif.latitude());
+        BigDecimal longitude = toBigDecimal(overrideLocation ? override.getLongitude() : exif.longitude());
+
+        return new ResolvedMeta(originalName, takenAt, latitude, longitude);
     }
 
     /**
@@ -268,11 +374,87 @@ public class PhotoService {
                         .photoId(photo.getId())
                         .latitude(photo.getLatitude())
                         .longitude(photo.getLongitude())
-                        .thumbnailUrl(photo.getFilePath())
+                        .thumbnailUrl(photo.getThumbnailUrl())
                         .build())
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 지도 클러스터 조회 (화면 영역 + 줌 레벨)
+     * - 영역 안의 사진을 줌에 맞는 지오해시 격자로 묶어 격자별 사진 수, 평균 위치, 대표 썸네일 반환
+     * - 격자는 사진 추가/삭제/위치 수정 때 미리 집계해둔 photo_geo_tile에서 읽음 (PhotoGeoTileService)
+     * - 클러스터 수는 MAX_MAP_CLUSTERS개로 제한되므로 사진 수와 무관하게 응답 크기가 일정
+     */
+    public PhotoDto.MapClusterResponse getMapClusters(Long userId, double south, double west,
+                                                      double north, double east, int zoom) {
+        if (south > north || west > east) {
+            // 날짜변경선을 걸치는 영역은 지원하지 않음
+            throw new IllegalArgumentException("지도 영역이 올바르지 않습니다.");
+        }
+        if (south < -90 || north > 90 || west < -180 || east > 180) {
+            throw new IllegalArgumentException("위도/경도 범위를 벗어났습니다.");
+        }
+
+        // 줌에 맞는 자리수로 영역을 덮되, 줌에 비해 영역이 너무 넓으면 격자 수가 제한 이하가 되도록 자리수를 낮춤
+        int precision = GeoHash.coveringPrecision(south, west, north, east, precisionForZoom(zoom), MAX_COVERING_CELLS);
+        List<String> covering = GeoHash.coveringCells(south, west, north, east, precision);
+
+        List<PhotoGeoTileRepository.GeoCluster> cells = photoGeoTileRepository.findClusters(
+                userId, precision, covering, MAX_MAP_CLUSTERS + 1);
+
+        boolean truncated = cells.size() > MAX_MAP_CLUSTERS;
+        if (truncated) {
+            cells = cells.subList(0, MAX_MAP_CLUSTERS);
+        }
+
+        // 대표 사진 썸네일 일괄 조회
+        Map<Long, String> thumbnails = photoRepository.findThumbnails(
+                        cells.stream().map(PhotoGeoTileRepository.GeoCluster::getSamplePhotoId).toList())
+                .stream()
+                .collect(Collectors.toMap(PhotoRepository.PhotoThumbnail::getPhotoId,
+                        PhotoRepository.PhotoThumbnail::getThumbnailUrl));
+
+        List<PhotoDto.MapCluster> clusters = cells.stream()
+                .map(cell -> PhotoDto.MapCluster.builder()
+                        .cell(cell.getCell())
+                        .count(cell.getPhotoCount())
+                        // 격자가 영역 경계에 걸치면 평균 위치가 화면 밖일 수 있으므로 마커는 영역 안으로 당김
+                        .latitude(clamp(cell.getLatitude(), south, north))
+                        .longitude(clamp(cell.getLongitude(), west, east))
+                        .samplePhotoId(cell.getSamplePhotoId())
+                        .thumbnailUrl(thumbnails.get(cell.getSamplePhotoId()))
+                        .build())
+                .toList();
+
+        return PhotoDto.MapClusterResponse.builder()
+                .precision(precision)
+                .clusters(clusters)
+                .truncated(truncated)
+                .build();
+    }
+
+    private static BigDecimal clamp(BigDecimal value, double min, double max) {
+        if (value.doubleValue() < min) {
+            return BigDecimal.valueOf(min);
+        }
+        if (value.doubleValue() > max) {
+            return BigDecimal.valueOf(max);
+        }
+        return value;
+    }
+
+    // 웹 지도 줌 레벨(0~21) → 지오해시 자리수 (화면에 격자가 수십 개 정도 보이도록)
+    static int precisionForZoom(int zoom) {
+        if (zoom <= 2) return 1;
+        if (zoom <= 5) return 2;
+        if (zoom <= 7) return 3;
+        if (zoom <= 10) return 4;
+        if (zoom <= 12) return 5;
+        if (zoom <= 15) return 6;
+        if (zoom <= 17) return 7;
+        return 8;
+    }
+
     // 댓글 작성 - 누구나 가능
     @Transactional
     public Long createComment(Long photoId, TravelDto.CommentRequest request, User user) {
@@ -286,6 +468,7 @@ public class PhotoService {
                 .content(request.getContent())
                 .build();
 
+        publishTravelChanged(photo);
         return commentRepository.save(cment).getId();
     }
 
@@ -303,6 +486,7 @@ public class PhotoService {
 
         // 내용 수정
         cment.updateContent(request.getContent());
+        publishTravelChanged(cment.getPhoto());
     }
 
     // 사진 ID로 댓글 삭제
@@ -322,6 +506,7 @@ public class PhotoService {
 
         // 삭제
         commentRepository.delete(cment);
+        publishTravelChanged(cment.getPhoto());
     }
 
     /**
@@ -349,6 +534,80 @@ public class PhotoService {
         return photoRepository.findByUserId(userId);
     }
 
+    /**
+     * 사진 보관함 조회 (커서 기반 페이지네이션, 최신순)
+     * - 한 번에 최대 LIBRARY_MAX_PAGE_SIZE장만 조회하므로 사진 수와 무관하게 요청당 메모리가 일정
+     * - cursor: 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * - region: 지역명 앞부분 일치 (예: "부산광역시"), from/to: 촬영일 범위 (양 끝 포함)
+     */
+    public PhotoDto.LibraryPage getLibrary(Long userId, String cursor, int size, boolean unassignedOnly,
+                                           String region, LocalDate from, LocalDate to) {
+        int pageSize = Math.max(1, Math.min(size, LIBRARY_MAX_PAGE_SIZE));
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작일이 종료일보다 늦습니다.");
+        }
+
+        LibraryCursor position = (cursor == null || cursor.isBlank()) ? LibraryCursor.FIRST : LibraryCursor.decode(cursor);
+        String regionPrefix = (region == null || region.isBlank()) ? null : escapeLike(region.trim()) + "%";
+
+        // 한 장 더 조회해 다음 페이지 존재 여부 판단
+        List<PhotoDto.LibraryItem> items = photoRepository.findLibraryPage(
+                userId,
+                position.takenAt(),
+                position.photoId(),
+                from != null ? from.atStartOfDay() : LIBRARY_MIN_TIME,
+                to != null ? to.plusDays(1).atStartOfDay() : LIBRARY_MAX_TIME,
+                unassignedOnly,
+                regionPrefix,
+                PageRequest.of(0, pageSize + 1)
+        );
+
+        boolean hasNext = items.size() > pageSize;
+        if (hasNext) {
+            items = items.subList(0, pageSize);
+        }
+        PhotoDto.LibraryItem last = items.isEmpty() ? null : items.get(items.size() - 1);
+
+        return PhotoDto.LibraryPage.builder()
+                .photos(items)
+                .nextCursor(hasNext ? new LibraryCursor(last.getTakenAt(), last.getPhotoId()).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // LIKE 패턴 특수문자 이스케이프 (쿼리의 ESCAPE '!'와 맞춤)
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    /**
+     * 보관함 커서 (마지막으로 받은 사진의 촬영 시간 + ID)
+     * - 클라이언트에는 Base64URL 문자열로 전달 (내부 형식을 노출하지 않음)
+     */
+    private record LibraryCursor(LocalDateTime takenAt, Long photoId) {
+
+        // 첫 페이지: 모든 사진보다 뒤에 있는 가상의 위치 (MySQL DATETIME 최댓값)
+        static final LibraryCursor FIRST = new LibraryCursor(LIBRARY_MAX_TIME, Long.MAX_VALUE);
+
+        String encode() {
+            String raw = takenAt + "|" + photoId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static LibraryCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf('|');
+                return new LibraryCursor(
+                        LocalDateTime.parse(raw.substring(0, separator)),
+                        Long.valueOf(raw.substring(separator + 1))
+                );
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+        }
+    }
+
     /**
      * 특정 사진 조회
      */
@@ -378,8 +637,10 @@ public class PhotoService {
             travel.updateRepresentativePhoto(null);
         }
 
-        // GCS 파일 삭제
-        gcsService.deleteFile(photo.getFilePath());
+        // 저장소 파일 삭제 예약 (같은 트랜잭션, 실제 삭제는 StorageDeletionWorker)
+        storageDeletionService.enqueuePhotos(List.of(photo));
+        photoGeoTileService.removePhotos(List.of(photo));
+        publishTravelChanged(photo);
 
         // DB 삭제
         photoRepository.delete(photo);
@@ -403,6 +664,13 @@ public class PhotoService {
         return photoId;
     }
 
+    // 사진이 속한 여행에 변경 알림 (커밋 후 공유 페이지 캐시 무효화)
+    private void publishTravelChanged(Photo photo) {
+        if (photo.getTravelDay() != null) {
+            eventPublisher.publishEvent(new TravelChangedEvent(photo.getTravelDay().getTravel().getId()));
+        }
+    }
+
     // 권한 검증 헬퍼 메소드
     private void validatePhotoOwnership(Photo photo, Long currentUserId) {
         // Photo 엔티티의 user로 직접 권한 확인 (TravelDay 여부와 무관)
@@ -425,6 +693,7 @@ public class PhotoService {
         }
 
         photo.updateTakenAt(newTakenAt);
+        publishTravelChanged(photo);
     }
 
     /**
@@ -450,8 +719,10 @@ public class PhotoService {
             throw new SecurityException("해당 여행에 사진을 추가할 권한이 없습니다.");
         }
 
-        // 사진 이동
+        // 사진 이동 (원래 여행과 옮겨 간 여행 모두 변경)
+        publishTravelChanged(photo);
         photo.setTravelDay(targetDay);
+        publishTravelChanged(photo);
     }
 
     /**
@@ -468,6 +739,8 @@ public class PhotoService {
             throw new SecurityException("사진을 수정할 권한이 없습니다.");
         }
 
+        publishTravelChanged(photo);
+
         // 촬영 시간 수정
         if (request.getTakenAt() != null) {
             photo.updateTakenAt(request.getTakenAt());
@@ -484,13 +757,17 @@ public class PhotoService {
             }
 
             photo.setTravelDay(targetDay);
+            publishTravelChanged(photo);
         }
 
         // 위치 정보 수정
         if (request.getLatitude() != null && request.getLongitude() != null) {
             BigDecimal lat = BigDecimal.valueOf(request.getLatitude());
             BigDecimal lng = BigDecimal.valueOf(request.getLongitude());
+            // 지도 격자: 기존 위치에서 빼고 새 위치에 더함
+            photoGeoTileService.removePhotos(List.of(photo));
             photo.updateLocation(lat, lng);
+            photoGeoTileService.addPhotos(List.of(photo));
 
             // 지역 정보 업데이트는 실패해도 나머지 수정은 정상 처리
             try {
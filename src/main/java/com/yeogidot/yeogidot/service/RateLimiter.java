@@ -0,0 +1,112 @@
+package com.yeogidot.yeogidot.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 슬라이딩 윈도우 요청 제한 (Redis Lua 스크립트)
+ * - 키마다 ZSET에 시도 시각(ms)을 기록하고, 윈도우 밖 기록을 지운 뒤 개수로 판정
+ * - 정리 + 판정 + 기록 + TTL 설정을 스크립트 하나로 원자적으로 실행 → 요청당 Redis 왕복 한 번
+ *   (스크립트는 EVALSHA로 실행, 서버에 없으면 EVAL로 자동 재시도)
+ * - 고정 윈도우 카운터와 달리 윈도우 경계에서 한도의 두 배까지 허용되는 문제가 없음
+ * - 로그인, 회원가입 등 제한이 필요한 곳에서 키/한도/윈도우만 바꿔 공유
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "rate:";
+
+    // KEYS[1] = 키, ARGV = [현재 시각(ms), 윈도우(ms), 한도, 기록할 멤버, 모드]
+    // 모드: 0 = 확인만, 1 = 한도 이내일 때만 기록, 2 = 항상 기록(실패 횟수 등)
+    // 반환: [허용 여부(1/0), 남은 횟수, 다시 시도까지 남은 시간(ms)]
+    private static final RedisScript<List> SLIDING_WINDOW = new DefaultRedisScript<>("""
+            local key = KEYS[1]
+            local now = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            local limit = tonumber(ARGV[3])
+            local mode = tonumber(ARGV[5])
+
+            redis.call('ZREMRANGEBYSCORE', key, '-inf', now - window)
+            local count = redis.call('ZCARD', key)
+            local allowed = count < limit
+
+            if mode == 2 or (mode == 1 and allowed) then
+                redis.call('ZADD', key, now, ARGV[4])
+                redis.call('PEXPIRE', key, window)
+                count = count + 1
+            end
+
+            local retryAfter = 0
+            if count >= limit then
+                local oldest = redis.call('ZRANGE', key, 0, 0, 'WITHSCORES')
+                if oldest[2] then
+                    retryAfter = math.max(0, tonumber(oldest[2]) + window - now)
+                end
+            end
+            return {allowed and 1 or 0, math.max(0, limit - count), retryAfter}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 판정 결과
+     *
+     * @param allowed    한도 이내 여부 (기록 전 기준)
+     * @param remaining  남은 횟수 (기록 후 기준)
+     * @param retryAfter 한도에 도달했다면 가장 오래된 기록이 윈도우를 벗어나기까지 남은 시간
+     */
+    public record Decision(boolean allowed, long remaining, Duration retryAfter) {
+    }
+
+    /**
+     * 한도 이내면 시도를 기록하고 허용 (한도 초과 시도는 기록하지 않음)
+     */
+    public Decision tryAcquire(String key, int limit, Duration window) {
+        return execute(key, limit, window, 1);
+    }
+
+    /**
+     * 허용 여부와 관계없이 시도를 기록 (로그인 실패처럼 발생한 사건을 세는 경우)
+     */
+    public Decision record(String key, int limit, Duration window) {
+        return execute(key, limit, window, 2);
+    }
+
+    /**
+     * 기록하지 않고 현재 상태만 확인
+     */
+    public Decision check(String key, int limit, Duration window) {
+        return execute(key, limit, window, 0);
+    }
+
+    /**
+     * 기록 초기화 (로그인 성공 등)
+     */
+    public void reset(String key) {
+        redisTemplate.delete(KEY_PREFIX + key);
+    }
+
+    private Decision execute(String key, int limit, Duration window, int mode) {
+        long now = System.currentTimeMillis();
+        // 같은 ms의 시도도 따로 세도록 멤버에 난수를 붙임
+        String member = now + ":" + Long.toHexString(ThreadLocalRandom.current().nextLong());
+        List<?> result = redisTemplate.execute(SLIDING_WINDOW, List.of(KEY_PREFIX + key),
+                String.valueOf(now), String.valueOf(window.toMillis()), String.valueOf(limit), member, String.valueOf(mode));
+        if (result == null || result.size() < 3) {
+            throw new RedisSystemException("요청 제한 스크립트 결과가 올바르지 않습니다: " + result, null);
+        }
+        return new Decision(
+                ((Number) result.get(0)).longValue() == 1,
+                ((Number) result.get(1)).longValue(),
+                Duration.ofMillis(((Number) result.get(2)).longValue()));
+    }
+}
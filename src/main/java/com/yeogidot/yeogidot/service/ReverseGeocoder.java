@@ -0,0 +1,33 @@
+package com.yeogidot.yeogidot.service;
+
+import java.math.BigDecimal;
+
+/**
+ * 역지오코딩 구현체 공통 인터페이스 (위도/경도 → 행정구역)
+ * - GeoCodingService가 @Order 순서대로 조회해 처음으로 판단한 결과를 사용
+ * - LocalReverseGeocoder(1): 서버에 적재한 행정구역 경계 폴리곤으로 조회
+ * - KakaoReverseGeocoder(2): 카카오 로컬 API로 조회
+ */
+public interface ReverseGeocoder {
+
+    /**
+     * @return 조회 결과
+     *         - 행정구역이 없는 좌표(바다 등)로 확인되면 RegionInfo.EMPTY
+     *         - 판단할 수 없으면(담당 범위 밖, 일시적 실패) null
+     */
+    GeoCodingService.RegionInfo reverseGeocode(BigDecimal latitude, BigDecimal longitude);
+
+    /**
+     * 네트워크를 거치는 조회인지 (true면 결과를 GeoCodingCache에 캐싱하고, 일괄 조회 시 병렬로 호출)
+     */
+    default boolean isRemote() {
+        return false;
+    }
+
+    /**
+     * 설정으로 꺼져 있으면 false (조회 순서에서 건너뜀)
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+}
@@ -0,0 +1,263 @@
+package com.yeogidot.yeogidot.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yeogidot.yeogidot.dto.TravelDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 공유 페이지 응답 2단계 캐시 (공유 토큰 → 직렬화된 JSON + ETag)
+ * - L1: 서버 내 Caffeine 캐시, L2: Redis (여러 서버가 공유)
+ * - 직렬화된 바이트를 그대로 저장하므로 적중 시 DB 조회/직렬화 없음
+ * - 여행마다 Redis 버전 "share:ver:{travelId}"을 두고 페이지 키에 버전을 포함 ("share:page:{token}:{version}")
+ *   → 여행 내용이 바뀌면 커밋 후 버전을 올리고(INCR), Pub/Sub으로 모든 서버의 L1을 비움
+ *   → 조회 전에 읽은 버전의 키에만 저장하므로, 조회 도중 다른 서버에서 무효화되면 변경 전 결과는 다시 읽히지 않음
+ * - 같은 토큰에 대한 동시 요청은 하나의 조회로 합쳐짐 (공유 링크 유입 시 DB 폭주 방지)
+ */
+@Slf4j
+@Component
+public class ShareResponseCache {
+
+    private static final String PAGE_KEY_PREFIX = "share:page:";
+    private static final String TOKEN_KEY_PREFIX = "share:token:";
+    private static final String VERSION_KEY_PREFIX = "share:ver:";
+    private static final String INVALIDATE_CHANNEL = "share:invalidate";
+    private static final char FIELD_SEPARATOR = '|';
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, SharePage> localCache;
+    // 조회 중인 토큰 (같은 토큰 동시 요청은 먼저 시작한 조회 결과를 공유)
+    private final ConcurrentHashMap<String, CompletableFuture<SharePage>> inFlight = new ConcurrentHashMap<>();
+    private final Duration redisTtl;
+
+    public ShareResponseCache(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${share.cache.local-max-size:1000}") long localMaxSize,
+            @Value("${share.cache.local-ttl:PT10M}") Duration localTtl,
+            @Value("${share.cache.redis-ttl:PT1H}") Duration redisTtl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisTtl = redisTtl;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .build();
+
+        // 다른 서버(자기 자신 포함)의 무효화 메시지 → L1에서 해당 여행 제거
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                evictLocal(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+            } catch (NumberFormatException e) {
+                log.warn("⚠️ 공유 캐시 무효화 메시지 형식 오류: {}", new String(message.getBody(), StandardCharsets.UTF_8));
+            }
+        }, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    /**
+     * 캐시 조회 → L1, L2 순으로 확인하고 둘 다 없으면 loader 실행 후 직렬화해 저장
+     * - loader 예외(존재하지 않는 토큰 등)는 캐시하지 않고 그대로 전달
+     */
+    public SharePage get(String shareToken, Supplier<TravelDto.DetailResponse> loader) {
+        SharePage hit = localCache.getIfPresent(shareToken);
+        if (hit != null) {
+            return hit;
+        }
+
+        CompletableFuture<SharePage> mine = new CompletableFuture<>();
+        CompletableFuture<SharePage> running = inFlight.putIfAbsent(shareToken, mine);
+        if (running != null) {
+            return awaitRunning(running);
+        }
+
+        try {
+            SharePage loaded = loadFromRedisOrOrigin(shareToken, loader);
+            mine.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(shareToken, mine);
+        }
+    }
+
+    /**
+     * 여행 변경 커밋 후 무효화
+     * - 롤백된 변경은 무효화하지 않음 (트랜잭션이 없으면 즉시 실행)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTravelChanged(TravelChangedEvent event) {
+        invalidate(event.travelId());
+    }
+
+    /**
+     * 여행의 공유 페이지 무효화 (Redis 버전 올리기 + 모든 서버 L1 비우기)
+     * - 이전 버전 페이지는 다시 읽히지 않고 TTL로 만료됨
+     */
+    public void invalidate(Long travelId) {
+        evictLocal(travelId);
+        try {
+            String versionKey = VERSION_KEY_PREFIX + travelId;
+            redisTemplate.opsForValue().increment(versionKey);
+            // 버전 키가 만료되어 0부터 다시 시작할 때는 이전 버전 페이지가 모두 만료된 뒤가 되도록 페이지 TTL의 2배
+            redisTemplate.expire(versionKey, redisTtl.multipliedBy(2));
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.valueOf(travelId));
+        } catch (Exception e) {
+            // Redis 장애 시 L2 항목은 TTL로 만료됨
+            log.warn("⚠️ 공유 캐시 무효화 실패 - travelId: {} - {}", travelId, e.getMessage());
+        }
+    }
+
+    private void evictLocal(Long travelId) {
+        localCache.asMap().values().removeIf(page -> page.travelId().equals(travelId));
+    }
+
+    private SharePage awaitRunning(CompletableFuture<SharePage> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            // 먼저 시작한 조회의 예외(유효하지 않은 토큰 등)는 원래 예외 그대로 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private SharePage loadFromRedisOrOrigin(String shareToken, Supplier<TravelDto.DetailResponse> loader) {
+        Long travelId = readTravelId(shareToken);
+        if (travelId == null) {
+            // 처음 보는 토큰: 조회 전에 여행 버전을 읽을 수 없으므로 이번 결과는 캐시하지 않고 토큰 → 여행 ID만 기록
+            SharePage page = serialize(loader.get());
+            writeTravelId(shareToken, page.travelId());
+            return page;
+        }
+
+        // 조회 전에 버전을 읽고, 그 버전의 키에서 읽고 씀
+        Long version = readVersion(travelId);
+        if (version == null) {
+            // Redis 장애: 버전을 확인할 수 없으므로 캐시하지 않음
+            return serialize(loader.get());
+        }
+
+        SharePage page = readRedis(shareToken, version);
+        if (page == null) {
+            page = serialize(loader.get());
+            writeRedis(shareToken, version, page);
+        }
+
+        // 조회하는 동안 무효화가 있었다면 L1에 저장하지 않음 (무효화 메시지가 먼저 도착했을 수 있음)
+        if (version.equals(readVersion(travelId))) {
+            localCache.put(shareToken, page);
+        }
+        return page;
+    }
+
+    private Long readTravelId(String shareToken) {
+        try {
+            String value = redisTemplate.opsForValue().get(TOKEN_KEY_PREFIX + shareToken);
+            return value != null ? Long.valueOf(value) : null;
+        } catch (Exception e) {
+            log.warn("⚠️ 공유 캐시 Redis 조회 실패: {} - {}", shareToken, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeTravelId(String shareToken, Long travelId) {
+        try {
+            redisTemplate.opsForValue().set(TOKEN_KEY_PREFIX + shareToken, String.valueOf(travelId), redisTtl);
+        } catch (Exception e) {
+            log.warn("⚠️ 공유 캐시 Redis 저장 실패: {} - {}", shareToken, e.getMessage());
+        }
+    }
+
+    // 여행 버전 (무효화된 적 없으면 0, Redis 장애 시 null)
+    private Long readVersion(Long travelId) {
+        try {
+            String value = redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + travelId);
+            return value != null ? Long.valueOf(value) : 0L;
+        } catch (Exception e) {
+            log.warn("⚠️ 공유 캐시 버전 조회 실패 - travelId: {} - {}", travelId, e.getMessage());
+            return null;
+        }
+    }
+
+    private static String pageKey(String shareToken, long version) {
+        return PAGE_KEY_PREFIX + shareToken + ":" + version;
+    }
+
+    private SharePage serialize(TravelDto.DetailResponse response) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(response);
+            return new SharePage(response.getTravelId(), body, eTagOf(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("공유 페이지 직렬화 실패", e);
+        }
+    }
+
+    private SharePage readRedis(String shareToken, long version) {
+        try {
+            // 저장 형식: "{ETag}|{travelId}|{JSON}"
+            String value = redisTemplate.opsForValue().get(pageKey(shareToken, version));
+            if (value == null) {
+                return null;
+            }
+            int first = value.indexOf(FIELD_SEPARATOR);
+            int second = value.indexOf(FIELD_SEPARATOR, first + 1);
+            if (first < 0 || second < 0) {
+                return null;
+            }
+            return new SharePage(
+                    Long.valueOf(value.substring(first + 1, second)),
+                    value.substring(second + 1).getBytes(StandardCharsets.UTF_8),
+                    value.substring(0, first)
+            );
+        } catch (Exception e) {
+            // Redis 장애 시에도 공유 페이지는 계속 동작해야 하므로 캐시 미스로 처리
+            log.warn("⚠️ 공유 캐시 Redis 조회 실패: {} - {}", shareToken, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String shareToken, long version, SharePage page) {
+        try {
+            String value = page.eTag() + FIELD_SEPARATOR + page.travelId() + FIELD_SEPARATOR
+                    + new String(page.body(), StandardCharsets.UTF_8);
+            redisTemplate.opsForValue().set(pageKey(shareToken, version), value, redisTtl);
+            // 토큰 → 여행 ID 기록도 페이지와 함께 연장
+            redisTemplate.opsForValue().set(TOKEN_KEY_PREFIX + shareToken, String.valueOf(page.travelId()), redisTtl);
+        } catch (Exception e) {
+            log.warn("⚠️ 공유 캐시 Redis 저장 실패: {} - {}", shareToken, e.getMessage());
+        }
+    }
+
+    private static String eTagOf(byte[] body) {
+        return "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+
+    /**
+     * 캐시된 공유 페이지 (직렬화된 JSON + ETag)
+     */
+    public record SharePage(Long travelId, byte[] body, String eTag) {
+    }
+}
@@ -0,0 +1,149 @@
+package com.yeogidot.yeogidot.service;
+
+import com.yeogidot.yeogidot.entity.Photo;
+import com.yeogidot.yeogidot.entity.StorageDeletion;
+import com.yeogidot.yeogidot.repository.PhotoRepository;
+import com.yeogidot.yeogidot.repository.StorageDeletionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 저장소 파일 삭제 대기열
+ * - enqueue: 호출한 쪽 트랜잭션에 참여해 삭제할 파일을 기록 (저장소 호출 없음 → 삭제 API 응답 지연 없음)
+ * - processBatch: 차례가 된 항목을 짧은 트랜잭션으로 임대(lease)한 뒤 트랜잭션 밖에서 DeleteObjects로 일괄 삭제,
+ *   결과는 다른 짧은 트랜잭션으로 반영 (성공 항목 삭제, 실패 항목은 지수 백오프로 재시도)
+ * - 저장소 호출 중에는 DB 커넥션/행 잠금을 잡지 않음, 처리 중 서버가 죽으면 임대가 끝난 뒤 다시 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StorageDeletionService {
+
+    // S3 DeleteObjects 한 번에 보낼 수 있는 최대 키 개수
+    static final int MAX_BATCH_SIZE = 1000;
+
+    private final StorageDeletionRepository storageDeletionRepository;
+    private final GcsService gcsService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 임대 시간: DeleteObjects 호출이 끝나기에 충분해야 함 (지나면 다른 서버가 다시 가져갈 수 있음)
+    @Value("${storage.deletion.lease:PT5M}")
+    private Duration lease;
+
+    @Value("${storage.deletion.retry-base:PT30S}")
+    private Duration retryBase;
+
+    @Value("${storage.deletion.retry-max:PT6H}")
+    private Duration retryMax;
+
+    /**
+     * 사진의 모든 파일(원본 + 파생 이미지) 삭제 예약
+     */
+    @Transactional
+    public void enqueuePhotos(Collection<Photo> photos) {
+        List<String> urls = new ArrayList<>();
+        for (Photo photo : photos) {
+            urls.addAll(photo.getStoredFilePaths());
+        }
+        enqueue(urls);
+    }
+
+    /**
+     * 경로 조회 결과로 삭제 예약 (일괄 삭제 경로용, 사진 엔티티를 로드하지 않음)
+     */
+    @Transactional
+    public void enqueueStoredFiles(Collection<PhotoRepository.StoredFiles> storedFiles) {
+        List<String> urls = new ArrayList<>();
+        for (PhotoRepository.StoredFiles files : storedFiles) {
+            urls.addAll(files.paths());
+        }
+        enqueue(urls);
+    }
+
+    /**
+     * 파일 삭제 예약
+     */
+    @Transactional
+    public void enqueue(Collection<String> fileUrls) {
+        if (fileUrls.isEmpty()) {
+            return;
+        }
+        storageDeletionRepository.saveAll(fileUrls.stream().map(StorageDeletion::of).toList());
+        log.info("🗑️ 저장소 삭제 예약: {}개", fileUrls.size());
+    }
+
+    /**
+     * 차례가 된 항목 한 묶음 처리
+     *
+     * @return 이번에 가져온 항목 수 (batchSize보다 작으면 대기열이 비었음)
+     */
+    public int processBatch(int batchSize) {
+        // 1. 임대: 다른 서버가 잠근 행은 건너뛰고, 가져온 행은 임대 시각까지 미룬 뒤 바로 커밋
+        Map<Long, String> claimed = transactionTemplate.execute(status -> claim(batchSize));
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        // 2. 저장소 삭제 (트랜잭션 밖)
+        Map<String, String> failures = gcsService.deleteFiles(List.copyOf(claimed.values()));
+
+        // 3. 결과 반영
+        transactionTemplate.executeWithoutResult(status -> complete(claimed, failures));
+
+        if (!failures.isEmpty()) {
+            log.warn("⚠️ 저장소 삭제 일부 실패 - 성공: {}개, 재시도 예약: {}개",
+                    claimed.size() - failures.size(), failures.size());
+        } else {
+            log.info("🗑️ 저장소 삭제 완료: {}개", claimed.size());
+        }
+        return claimed.size();
+    }
+
+    // 차례가 된 항목을 잠그고 임대 (id → 파일 URL)
+    private Map<Long, String> claim(int batchSize) {
+        List<StorageDeletion> due = storageDeletionRepository.lockDue(
+                LocalDateTime.now(), PageRequest.of(0, Math.min(batchSize, MAX_BATCH_SIZE)));
+        if (due.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, String> claimed = new LinkedHashMap<>();
+        for (StorageDeletion deletion : due) {
+            claimed.put(deletion.getId(), deletion.getFileUrl());
+        }
+        storageDeletionRepository.lease(claimed.keySet(), LocalDateTime.now().plus(lease));
+        return claimed;
+    }
+
+    // 성공 항목은 대기열에서 삭제, 실패 항목은 재시도 예약 (임대 시각을 백오프 시각으로 교체)
+    private void complete(Map<Long, String> claimed, Map<String, String> failures) {
+        List<Long> done = new ArrayList<>(claimed.size());
+        List<Long> failed = new ArrayList<>(failures.size());
+        claimed.forEach((id, fileUrl) -> (failures.containsKey(fileUrl) ? failed : done).add(id));
+
+        if (!done.isEmpty()) {
+            storageDeletionRepository.deleteAllByIdInBatch(done);
+        }
+        for (StorageDeletion deletion : storageDeletionRepository.findAllById(failed)) {
+            deletion.retryAt(LocalDateTime.now().plus(backoff(deletion.getAttempts())),
+                    failures.get(deletion.getFileUrl()));
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = retryBase.multipliedBy(1L << Math.min(attempts, 20));
+        return delay.compareTo(retryMax) > 0 ? retryMax : delay;
+    }
+}
@@ -0,0 +1,39 @@
+package com.yeogidot.yeogidot.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장소 삭제 대기열 처리 작업
+ * - 주기적으로 대기열을 비움 (한 묶음씩 트랜잭션 분리)
+ * - 여러 서버가 동시에 실행해도 SKIP LOCKED로 서로 다른 항목을 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StorageDeletionWorker {
+
+    private final StorageDeletionService storageDeletionService;
+
+    @Value("${storage.deletion.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${storage.deletion.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Scheduled(fixedDelayString = "${storage.deletion.interval:PT10S}", initialDelayString = "${storage.deletion.initial-delay:PT30S}")
+    public void drain() {
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                if (storageDeletionService.processBatch(batchSize) < batchSize) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("❌ 저장소 삭제 대기열 처리 실패 (다음 주기에 재시도)", e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.yeogidot.yeogidot.service;
+
+/**
+ * 여행 내용(일차, 사진, 일기, 댓글) 변경 이벤트
+ * - 트랜잭션 커밋 후 공유 페이지 캐시 무효화에 사용
+ */
+public record TravelChangedEvent(Long travelId) {
+}
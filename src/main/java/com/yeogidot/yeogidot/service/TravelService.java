@@ -1,5 +1,6 @@
 package com.yeogidot.yeogidot.service;
 
+import com.yeogidot.yeogidot.dto.TravelDetailRow;
 import com.yeogidot.yeogidot.dto.TravelDto;
 import com.yeogidot.yeogidot.entity.*;
 import com.yeogidot.yeogidot.exception.ResourceNotFoundException;
@@ -7,11 +8,13 @@ import com.yeogidot.yeogidot.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 // 여행 서비스
@@ -26,8 +29,11 @@ public class TravelService {
     private final PhotoRepository photoRepository;
     private final TravelDayRepository travelDayRepository;
     private final TravelLogRepository travelLogRepository;
-    private final GcsService gcsService;
+    private final CommentRepository commentRepository;
+    private final StorageDeletionService storageDeletionService;
+    private final PhotoGeoTileService photoGeoTileService;
     private final GeoCodingService geoCodingService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${app.frontend.base-url}")
     private String frontendBaseUrl;
@@ -45,7 +51,7 @@ public class TravelService {
 
         Map<Long, String> photoUrlMap = photoRepository.findAllById(representativePhotoIds)
                 .stream()
-                .collect(Collectors.toMap(Photo::getId, Photo::getFilePath));
+                .collect(Collectors.toMap(Photo::getId, Photo::getMediumUrl));
 
         return travels.stream().map(travel -> {
             String photoUrl = travel.getRepresentativePhotoId() != null
@@ -105,24 +111,13 @@ public class TravelService {
         }
 
         // 5단계: 지역명 자동 결정 (위도/경도 기반)
+        // 사진 좌표를 한 번에 조회해 여행 지역(시/도)과 일차 지역(구/군) 모두에 재사용
+        Map<GeoCodingService.Coordinate, GeoCodingService.RegionInfo> regions = resolveRegions(photos);
+
         String trvRegion = request.getTrvRegion();
         if (trvRegion == null || trvRegion.isEmpty()) {
             // 가장 많이 등장하는 지역명 찾기
-            Map<String, Long> regionCount = photos.stream()
-                    .filter(photo -> photo.getLatitude() != null && photo.getLongitude() != null)
-                    .map(photo -> geoCodingService.getRegionFromCoordinates(
-                            photo.getLatitude(),
-                            photo.getLongitude()
-                    ))
-                    .filter(region -> region != null)
-                    .collect(Collectors.groupingBy(
-                            region -> region,
-                            Collectors.counting()
-                    ));
-
-            trvRegion = regionCount.entrySet().stream()
-                    .max(Map.Entry.comparingByValue())
-                    .map(Map.Entry::getKey)
+            trvRegion = Optional.ofNullable(mostFrequentRegion(photos, regions, GeoCodingService.RegionInfo::getRegion1depth))
                     .orElse("미지정");
 
             log.info("🗺️ 자동 지역 설정: {}", trvRegion);
@@ -140,8 +135,11 @@ public class TravelService {
 
         travelRepository.save(travel);
 
-        // 7단계: 사진이 있는 날짜만 TravelDay 생성
+        // 7단계: 사진이 있는 날짜만 TravelDay 생성 (dayRegion까지 채운 뒤 한 번에 INSERT)
+        Map<LocalDate, List<Photo>> photosByDate = photos.stream()
+                .collect(Collectors.groupingBy(p -> p.getTakenAt().toLocalDate()));
         Map<LocalDate, TravelDay> dayMap = new HashMap<>();
+        List<TravelDay> days = new ArrayList<>();
         int dayNumber = 1;
 
         for (LocalDate photoDate : photoDates) {
@@ -150,98 +148,47 @@ public class TravelService {
                     .dayNumber(dayNumber++)
                     .date(photoDate)
                     .build();
-            travelDayRepository.save(day);
+
+            // 사진 위치 기반으로 dayRegion 결정 (5단계에서 조회한 지역 정보 재사용)
+            String dayRegion = mostFrequentRegion(photosByDate.getOrDefault(photoDate, List.of()), regions,
+                    GeoCodingService.RegionInfo::getRegion2depth);
+            if (dayRegion != null) {
+                day.updateDayRegion(dayRegion);
+                log.info("✅ 일차 {} 지역 설정: {}", day.getDayNumber(), dayRegion);
+            }
+
+            days.add(day);
             dayMap.put(photoDate, day);
         }
+        travelDayRepository.saveAll(days);
 
-        // 8단계: 사진을 해당 날짜의 TravelDay에 배치하고 dayRegion 설정
+        // 8단계: 사진을 해당 날짜의 TravelDay에 배치
         // 이미 2단계에서 조회한 photos 리스트 재사용 (추가 DB 조회 없음)
+        // 영속 상태의 사진이므로 변경 감지로 UPDATE가 모여 배치로 전송됨
         for (Photo photo : photos) {
-            LocalDate photoDate = photo.getTakenAt().toLocalDate();
-            TravelDay matchingDay = dayMap.get(photoDate);
-
+            TravelDay matchingDay = dayMap.get(photo.getTakenAt().toLocalDate());
             if (matchingDay != null) {
+                publishPreviousTravelChanged(photo); // 다른 여행에서 옮겨 오는 사진
                 photo.setTravelDay(matchingDay);
-                photoRepository.save(photo);
-            }
-        }
-
-        // 9단계: 각 TravelDay의 dayRegion 자동 설정
-        for (LocalDate photoDate : photoDates) {
-            TravelDay day = dayMap.get(photoDate);
-
-            // 해당 날짜의 사진들 수집
-            List<Photo> dayPhotos = photos.stream()
-                    .filter(p -> p.getTakenAt().toLocalDate().equals(photoDate))
-                    .collect(Collectors.toList());
-
-            // 사진 위치 기반으로 dayRegion 결정
-            Map<String, Long> regionCount = dayPhotos.stream()
-                    .filter(photo -> photo.getLatitude() != null && photo.getLongitude() != null)
-                    .map(photo -> {
-                        GeoCodingService.RegionInfo regionInfo = geoCodingService.getDetailedRegion(
-                                photo.getLatitude(),
-                                photo.getLongitude()
-                        );
-                        return regionInfo != null ? regionInfo.getRegion2depth() : null;
-                    })
-                    .filter(region -> region != null)
-                    .collect(Collectors.groupingBy(
-                            region -> region,
-                            Collectors.counting()
-                    ));
-
-            String dayRegion = regionCount.entrySet().stream()
-                    .max(Map.Entry.comparingByValue())
-                    .map(Map.Entry::getKey)
-                    .orElse(null);
-
-            if (dayRegion != null) {
-                day.updateDayRegion(dayRegion);
-                travelDayRepository.save(day);
-                log.info("✅ 일차 {} 지역 설정: {}", day.getDayNumber(), dayRegion);
             }
         }
 
         return travel.getId();
     }
 
-    // === 여행 상세 조회 (N+1 해결 + 조회 시 데이터 수정 제거) ===
+    // === 여행 상세 조회 (단일 쿼리 + 엔티티 없이 평면 행을 한 번에 조립) ===
     public TravelDto.DetailResponse getTravelDetail(Long travelId, User user) {
-        // 1단계: Travel + TravelDays 조회
-        Travel travel = travelRepository.findByIdWithDetails(travelId)
-                .orElseThrow(() -> new ResourceNotFoundException("여행 기록", travelId));
+        List<TravelDetailRow> rows = travelRepository.findDetailRows(travelId);
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException("여행 기록", travelId);
+        }
 
         // 권한 검증
-        if (!travel.getUser().getId().equals(user.getId())) {
+        if (!rows.get(0).ownerId().equals(user.getId())) {
             throw new SecurityException("해당 여행을 조회할 권한이 없습니다.");
         }
 
-        // 2단계: TravelDays + Photos 조회 (별도 쿼리, 영속성 컨텍스트에 로드)
-        travelRepository.findDaysWithPhotos(travelId);
-
-        // 3단계: Photos + Comments 조회 (별도 쿼리, 영속성 컨텍스트에 로드)
-        travelRepository.findPhotosWithComments(travelId);
-
-        // 4단계: TravelLogs 조회 (별도 쿼리, 영속성 컨텍스트에 로드)
-        travelRepository.findDaysWithLogs(travelId);
-
-        // 날짜순으로 정렬 (DB 수정 없이 메모리에서만 정렬)
-        List<TravelDto.TravelDayDetail> sortedDays = travel.getTravelDays().stream()
-                .sorted((d1, d2) -> d1.getDate().compareTo(d2.getDate()))
-                .map(this::mapToDayDetail)
-                .collect(Collectors.toList());
-
-        return TravelDto.DetailResponse.builder()
-                .travelId(travel.getId())
-                .title(travel.getTitle())
-                .trvRegion(travel.getTrvRegion())
-                .representativePhotoId(travel.getRepresentativePhotoId())
-                .shareUrl(travel.getShareUrl())
-                .startDate(travel.getStartDate())
-                .endDate(travel.getEndDate())
-                .days(sortedDays)
-                .build();
+        return assembleDetail(rows);
     }
 
     // === 여행 삭제 ===
@@ -255,18 +202,19 @@ public class TravelService {
             throw new SecurityException("삭제 권한이 없습니다.");
         }
 
-        // GCS에서 사진 파일 삭제 (외부 저장소는 Cascade 안 됨)
-        // N+1 개선: findByTravelDay() N번 → findByTravelDayIn() 1번으로 변경
-        List<TravelDay> travelDays = travelDayRepository.findByTravelId(travelId);
-        List<Photo> photos = photoRepository.findByTravelDayIn(travelDays);
-        for (Photo photo : photos) {
-            gcsService.deleteFile(photo.getFilePath());
-            log.info("🗑️ GCS 파일 삭제: {}", photo.getFilePath());
-        }
+        // 저장소 사진 파일 삭제 예약 (외부 저장소는 Cascade 안 됨, 실제 삭제는 StorageDeletionWorker)
+        // 엔티티를 로드하지 않고 파일 경로만 조회
+        storageDeletionService.enqueueStoredFiles(photoRepository.findStoredFilesByTravelId(travelId));
 
-        // DB는 Cascade로 자동 삭제 (Travel -> TravelDay -> Photo, TravelLog, Cment 모두 자동)
-        travelRepository.delete(travel);
-        log.info("✅ 여행 삭제 완료 - Travel ID: {}", travelId);
+        // DB는 자식 → 부모 순서로 일괄 삭제 (Cascade는 모든 행을 로드해 한 건씩 DELETE하므로 사용하지 않음)
+        photoGeoTileService.removeByTravelId(travelId);
+        int comments = commentRepository.deleteByTravelId(travelId);
+        int photos = photoRepository.deleteByTravelId(travelId);
+        int logs = travelLogRepository.deleteByTravelId(travelId);
+        int days = travelDayRepository.deleteByTravelId(travelId);
+        travelRepository.deleteByIdInBulk(travelId);
+        publishTravelChanged(travelId);
+        log.info("✅ 여행 삭제 완료 - Travel ID: {} (일차 {}, 사진 {}, 로그 {}, 댓글 {})", travelId, days, photos, logs, comments);
     }
 
     // === 여행 일차 상세 조회 ===
@@ -298,34 +246,26 @@ public class TravelService {
             throw new SecurityException("삭제 권한이 없습니다.");
         }
 
-        // 사진들을 명시적으로 조회 (Lazy Loading 해결)
-        List<Photo> photos = photoRepository.findByTravelDay(day);
-
-        log.info("🗑️ TravelDay 삭제 시작 - Day ID: {}, 사진 개수: {}", dayId, photos.size());
-
-        // 일차 삭제 전에 Travel 참조 및 삭제할 dayNumber, travelId 저장
-        Travel travel = day.getTravel();
+        // 일차 삭제 전에 삭제할 dayNumber, travelId 저장
         int deletedDayNumber = day.getDayNumber();
-        Long travelId = travel.getId();
+        Long travelId = day.getTravel().getId();
 
-        // GCS에서 사진 파일 삭제 (외부 저장소는 Cascade 안 됨)
-        for (Photo photo : photos) {
-            gcsService.deleteFile(photo.getFilePath());
-            log.info("🗑️ GCS 파일 삭제: {}", photo.getFilePath());
-        }
-
-        // 사진 먼저 DB에서 삭제 (Cascade 충돌 방지)
-        photoRepository.deleteAll(photos);
-        photoRepository.flush();
+        // 저장소 사진 파일 삭제 예약 (외부 저장소는 Cascade 안 됨, 실제 삭제는 StorageDeletionWorker)
+        storageDeletionService.enqueueStoredFiles(photoRepository.findStoredFilesByTravelDayId(dayId));
 
-        // TravelDay 삭제
-        travelDayRepository.delete(day);
-        travelDayRepository.flush();
+        // DB는 자식 → 부모 순서로 일괄 삭제 (일괄 삭제 후 영속성 컨텍스트가 비워짐)
+        photoGeoTileService.removeByTravelDayId(dayId);
+        commentRepository.deleteByTravelDayId(dayId);
+        int photos = photoRepository.deleteByTravelDayId(dayId);
+        travelLogRepository.deleteByTravelDayId(dayId);
+        travelDayRepository.deleteByIdInBulk(dayId);
+        publishTravelChanged(travelId);
 
-        log.info("✅ TravelDay 삭제 완료 - Day ID: {}", dayId);
+        log.info("✅ TravelDay 삭제 완료 - Day ID: {}, 사진 개수: {}", dayId, photos);
 
-        // 영속성 컨텍스트에서 travel 컬렉션 갱신 (삭제된 day 제거)
-        travel.getTravelDays().remove(day);
+        // 영속성 컨텍스트가 비워졌으므로 여행을 다시 조회 (삭제된 일차는 컬렉션에 없음)
+        Travel travel = travelRepository.findById(travelId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 여행입니다."));
 
         // 남은 일차들의 dayNumber 재정렬 (삭제된 일차 이후 번호들을 -1씩 당김)
         List<TravelDay> remainingDays = travelDayRepository.findByTravelId(travelId);
@@ -381,6 +321,7 @@ public class TravelService {
                 .build();
 
         TravelDay savedDay = travelDayRepository.save(newDay);
+        publishTravelChanged(travelId);
 
         // 이후 날짜들의 dayNumber 재정렬
         for (TravelDay day : sortedDays) {
@@ -439,12 +380,14 @@ public class TravelService {
             }
 
             // 사진을 해당 TravelDay에 추가
+            publishPreviousTravelChanged(photo);
             photo.setTravelDay(day);
             addedPhotos.add(photo);
         }
 
         // 사진 추가 후 dayRegion 업데이트 (재조회 없이 직접 업데이트)
         updateDayRegionFromPhotos(day, addedPhotos);
+        publishTravelChanged(day.getTravel().getId());
 
         return addedPhotos.size();
     }
@@ -465,6 +408,7 @@ public class TravelService {
                 .content(request.getContent())
                 .build();
 
+        publishTravelChanged(day.getTravel().getId());
         return travelLogRepository.save(log).getId();
     }
 
@@ -479,6 +423,7 @@ public class TravelService {
         }
 
         log.updateContent(request.getContent());
+        publishTravelChanged(log.getTravelDay().getTravel().getId());
     }
 
     // === 여행 로그 삭제 (신규 추가) ===
@@ -493,6 +438,7 @@ public class TravelService {
         }
 
         travelLogRepository.delete(log);
+        publishTravelChanged(log.getTravelDay().getTravel().getId());
     }
 
     // === 여행 공유 URL 조회 및 생성 (수정: String 반환) ===
@@ -507,52 +453,30 @@ public class TravelService {
             throw new SecurityException("해당 여행을 공유할 권한이 없습니다.");
         }
 
-        // DB에 share_url이 없거나 구 도메인(travel.vercel.app)이면 새로 생성
-        if (travel.getShareUrl() == null || travel.getShareUrl().isEmpty()
-                || !travel.getShareUrl().startsWith(frontendBaseUrl)) {
-            String uuid = UUID.randomUUID().toString();
-            String fullUrl = frontendBaseUrl + "/share/" + uuid;
-
-            // Travel 엔티티에 shareUrl 업데이트
-            travel.updateShareUrl(fullUrl);
+        // 공유 토큰이 없으면 새로 발급 (URL은 현재 frontendBaseUrl로 조합하므로 도메인이 바뀌어도 재발급 불필요)
+        if (travel.getShareToken() == null) {
+            travel.assignShareToken(UUID.randomUUID());
         }
 
-        return travel.getShareUrl();
+        return shareUrlOf(travel.getShareToken());
     }
 
     // === 공유 토큰으로 여행 조회  ===
     public TravelDto.DetailResponse getTravelByShareToken(String shareToken) {
-        // shareToken을 포함하는 전체 URL 조회
-        String shareUrl = frontendBaseUrl + "/share/" + shareToken;
-
-        Travel travel = travelRepository.findByShareUrl(shareUrl)
-                .orElseThrow(() -> new IllegalStateException("유효하지 않은 공유 URL입니다."));
-
-        // TravelDays + Photos 조회
-        travelRepository.findDaysWithPhotos(travel.getId());
-
-        // Photos + Comments 조회
-        travelRepository.findPhotosWithComments(travel.getId());
-
-        // TravelLogs 조회
-        travelRepository.findDaysWithLogs(travel.getId());
+        // 토큰 형식이 잘못되었으면 DB 조회 없이 거절
+        UUID token;
+        try {
+            token = UUID.fromString(shareToken);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("유효하지 않은 공유 URL입니다.");
+        }
 
-        // 날짜순으로 정렬
-        List<TravelDto.TravelDayDetail> sortedDays = travel.getTravelDays().stream()
-                .sorted((d1, d2) -> d1.getDate().compareTo(d2.getDate()))
-                .map(this::mapToDayDetail)
-                .collect(Collectors.toList());
+        List<TravelDetailRow> rows = travelRepository.findDetailRowsByShareToken(token);
+        if (rows.isEmpty()) {
+            throw new IllegalStateException("유효하지 않은 공유 URL입니다.");
+        }
 
-        return TravelDto.DetailResponse.builder()
-                .travelId(travel.getId())
-                .title(travel.getTitle())
-                .trvRegion(travel.getTrvRegion())
-                .representativePhotoId(travel.getRepresentativePhotoId())
-                .shareUrl(travel.getShareUrl())
-                .startDate(travel.getStartDate())
-                .endDate(travel.getEndDate())
-                .days(sortedDays)
-                .build();
+        return assembleDetail(rows);
     }
 
     // --- 헬퍼 메서드: TravelDay의 dayRegion 자동 설정 (개선: 추가된 사진만 고려) ---
@@ -569,37 +493,64 @@ public class TravelService {
             return;
         }
 
-        // 해당 날짜의 사진들 위치 기반으로 가장 많이 등장하는 구/군 찾기
-        Map<String, Long> regionCount = photosWithLocation.stream()
-                .map(photo -> {
-                    GeoCodingService.RegionInfo regionInfo = geoCodingService.getDetailedRegion(
-                            photo.getLatitude(),
-                            photo.getLongitude()
-                    );
-                    String region2depth = regionInfo != null ? regionInfo.getRegion2depth() : null;
-                    log.info("  🗺️ Photo {} → region2depth: {}", photo.getId(), region2depth);
-                    return region2depth;
-                })
-                .filter(region -> region != null)
+        // 해당 날짜의 사진들 위치 기반으로 가장 많이 등장하는 구/군 찾기 (좌표 일괄 조회)
+        Map<GeoCodingService.Coordinate, GeoCodingService.RegionInfo> regions = resolveRegions(photosWithLocation);
+        String dayRegion = mostFrequentRegion(photosWithLocation, regions, GeoCodingService.RegionInfo::getRegion2depth);
+
+        log.info("🎯 최종 dayRegion: {}", dayRegion);
+
+        if (dayRegion != null) {
+            day.updateDayRegion(dayRegion);
+            log.info("✅ 일차 {} 지역 설정 완료: {}", day.getDayNumber(), dayRegion);
+        } else {
+            log.warn("⚠️ 일차 {} 지역 설정 실패 - dayRegion이 null", day.getDayNumber());
+        }
+    }
+
+    // --- 헬퍼 메서드: 사진 좌표의 지역 정보 일괄 조회 (같은 격자의 좌표는 한 번만 조회) ---
+    private Map<GeoCodingService.Coordinate, GeoCodingService.RegionInfo> resolveRegions(List<Photo> photos) {
+        List<GeoCodingService.Coordinate> coordinates = photos.stream()
+                .map(photo -> GeoCodingService.Coordinate.of(photo.getLatitude(), photo.getLongitude()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return geoCodingService.resolveAll(coordinates);
+    }
+
+    // --- 헬퍼 메서드: 사진들에서 가장 많이 등장하는 지역명 (level: 시/도 또는 구/군) ---
+    private String mostFrequentRegion(List<Photo> photos,
+                                      Map<GeoCodingService.Coordinate, GeoCodingService.RegionInfo> regions,
+                                      Function<GeoCodingService.RegionInfo, String> level) {
+        Map<String, Long> regionCount = photos.stream()
+                .filter(photo -> photo.getLatitude() != null && photo.getLongitude() != null)
+                .map(photo -> regions.get(GeoCodingService.Coordinate.snap(photo.getLatitude(), photo.getLongitude())))
+                .filter(Objects::nonNull)
+                .map(level)
+                .filter(Objects::nonNull)
                 .collect(Collectors.groupingBy(
                         region -> region,
                         Collectors.counting()
                 ));
 
-        log.info("📊 regionCount: {}", regionCount);
-
-        String dayRegion = regionCount.entrySet().stream()
+        return regionCount.entrySet().stream()
                 .max(Map.Entry.comparingByValue())
                 .map(Map.Entry::getKey)
                 .orElse(null);
+    }
 
-        log.info("🎯 최종 dayRegion: {}", dayRegion);
+    // --- 헬퍼 메서드: 공유 토큰 → 공유 URL ---
+    private String shareUrlOf(UUID shareToken) {
+        return frontendBaseUrl + "/share/" + shareToken;
+    }
 
-        if (dayRegion != null) {
-            day.updateDayRegion(dayRegion);
-            log.info("✅ 일차 {} 지역 설정 완료: {}", day.getDayNumber(), dayRegion);
-        } else {
-            log.warn("⚠️ 일차 {} 지역 설정 실패 - dayRegion이 null", day.getDayNumber());
+    // --- 헬퍼 메서드: 여행 변경 알림 (커밋 후 공유 페이지 캐시 무효화) ---
+    private void publishTravelChanged(Long travelId) {
+        eventPublisher.publishEvent(new TravelChangedEvent(travelId));
+    }
+
+    // --- 헬퍼 메서드: 사진이 원래 속해 있던 여행에 변경 알림 ---
+    private void publishPreviousTravelChanged(Photo photo) {
+        if (photo.getTravelDay() != null) {
+            publishTravelChanged(photo.getTravelDay().getTravel().getId());
         }
     }
 
@@ -632,51 +583,84 @@ public class TravelService {
         }
     }
 
-    // --- 헬퍼 메서드: Day 엔티티 -> DTO 변환 ---
-    private TravelDto.TravelDayDetail mapToDayDetail(TravelDay day) {
-        List<TravelDto.PhotoDetail> photoDetails = day.getPhotos().stream()
-                .map(photo -> {
-                    // 댓글 목록 변환
-                    List<TravelDto.CommentDetail> commentDetails = photo.getComments().stream()
-                            .map(comment -> TravelDto.CommentDetail.builder()
-                                    .commentId(comment.getId())
-                                    .content(comment.getContent())
-                                    .createdAt(comment.getCreatedDate())
-                                    .build())
-                            .collect(Collectors.toList());
+    // --- 헬퍼 메서드: 상세 조회 평면 행 -> DTO 트리 조립 ---
+    private TravelDto.DetailResponse assembleDetail(List<TravelDetailRow> rows) {
+        // 행은 일차 → 사진 → 댓글 순으로 정렬되어 있으므로 직전 ID와 비교하며 한 번에 트리 구성
+        List<TravelDto.TravelDayDetail> days = new ArrayList<>();
+        List<TravelDto.PhotoDetail> photos = null;
+        List<TravelDto.CommentDetail> comments = null;
+        Long currentDayId = null;
+        Long currentPhotoId = null;
+
+        for (TravelDetailRow row : rows) {
+            if (row.dayId() == null) {
+                continue; // 일차가 없는 여행
+            }
 
-                    return TravelDto.PhotoDetail.builder()
-                            .photoId(photo.getId())
-                            .url(photo.getFilePath())
-                            .takenAt(photo.getTakenAt())
-                            .latitude(photo.getLatitude())
-                            .longitude(photo.getLongitude())
-                            .region(photo.getRegion())  // 지역 정보 추가
-                            .comments(commentDetails) // 댓글 추가
+            if (!row.dayId().equals(currentDayId)) {
+                currentDayId = row.dayId();
+                currentPhotoId = null;
+                photos = new ArrayList<>();
+
+                TravelDto.DiaryDetail diary = null;
+                if (row.logId() != null) {
+                    diary = TravelDto.DiaryDetail.builder()
+                            .logId(row.logId())
+                            .content(row.logContent())
+                            .logCreated(row.logCreatedAt())
                             .build();
-                })
-                .collect(Collectors.toList());
+                }
+
+                days.add(TravelDto.TravelDayDetail.builder()
+                        .dayId(row.dayId())
+                        .dayNumber(row.dayNumber())
+                        .date(row.date())
+                        .dayRegion(row.dayRegion())
+                        .photos(photos)
+                        .diary(diary)
+                        .build());
+            }
+
+            if (row.photoId() == null) {
+                continue; // 사진이 없는 일차
+            }
+
+            if (!row.photoId().equals(currentPhotoId)) {
+                currentPhotoId = row.photoId();
+                comments = new ArrayList<>();
+
+                photos.add(TravelDto.PhotoDetail.builder()
+                        .photoId(row.photoId())
+                        .url(row.filePath())
+                        .mediumUrl(row.mediumPath() != null ? row.mediumPath() : row.filePath())
+                        .thumbnailUrl(row.thumbnailPath() != null ? row.thumbnailPath() : row.filePath())
+                        .takenAt(row.takenAt())
+                        .latitude(row.latitude())
+                        .longitude(row.longitude())
+                        .region(row.region())  // 지역 정보
+                        .comments(comments)    // 댓글 (아래에서 채움)
+                        .build());
+            }
 
-        TravelDto.DiaryDetail diaryDetail = null;
-        if (!day.getTravelLogs().isEmpty()) {
-            // Set의 첨 번째 요소 가져오기
-            TravelLog log = day.getTravelLogs().stream().findFirst().orElse(null);
-            if (log != null) {
-                diaryDetail = TravelDto.DiaryDetail.builder()
-                        .logId(log.getId())
-                        .content(log.getContent())
-                        .logCreated(log.getCreatedDate())
-                        .build();
+            if (row.commentId() != null) {
+                comments.add(TravelDto.CommentDetail.builder()
+                        .commentId(row.commentId())
+                        .content(row.commentContent())
+                        .createdAt(row.commentCreatedAt())
+                        .build());
             }
         }
 
-        return TravelDto.TravelDayDetail.builder()
-                .dayId(day.getId())
-                .dayNumber(day.getDayNumber())
-                .date(day.getDate())
-                .dayRegion(day.getDayRegion())
-                .photos(photoDetails)
-                .diary(diaryDetail)
+        TravelDetailRow travel = rows.get(0);
+        return TravelDto.DetailResponse.builder()
+                .travelId(travel.travelId())
+                .title(travel.title())
+                .trvRegion(travel.trvRegion())
+                .representativePhotoId(travel.representativePhotoId())
+                .shareUrl(travel.shareToken() != null ? shareUrlOf(travel.shareToken()) : null)
+                .startDate(travel.startDate())
+                .endDate(travel.endDate())
+                .days(days)
                 .build();
     }
 
@@ -690,6 +674,7 @@ public class TravelService {
         if (!travel.getUser().getId().equals(user.getId())) {
             throw new SecurityException("여행을 수정할 권한이 없습니다.");
         }
+        publishTravelChanged(travelId);
 
         // 제목 수정
         if (request.getTitle() != null) {
@@ -740,9 +725,9 @@ public class TravelService {
                     Photo photo = existingPhotoMap.get(photoId);
                     if (photo != null) {
                         try {
-                            // GCS 파일 삭제
-                            gcsService.deleteFile(photo.getFilePath());
-                            log.info("🗑️ GCS 파일 삭제: {}", photo.getFilePath());
+                            // 저장소 파일 삭제 예약
+                            storageDeletionService.enqueuePhotos(List.of(photo));
+                            photoGeoTileService.removePhotos(List.of(photo));
 
                             // DB에서 사진 삭제 (TravelDay 연결 해제)
                             photo.setTravelDay(null);
@@ -781,6 +766,7 @@ public class TravelService {
                     throw new IllegalArgumentException("사진 ID " + photoId + "에 촬영 날짜 정보가 없습니다.");
                 }
 
+                publishPreviousTravelChanged(photo); // 다른 여행에서 옮겨 오는 사진
                 allPhotos.add(photo);
             }
 
@@ -813,6 +799,7 @@ public class TravelService {
                 }
 
                 // 7단계: 필요한 일차 생성 (없는 날짜만)
+                List<TravelDay> newDays = new ArrayList<>();
                 for (LocalDate photoDate : photoDates) {
                     if (!dayMap.containsKey(photoDate)) {
                         TravelDay newDay = TravelDay.builder()
@@ -820,13 +807,14 @@ public class TravelService {
                                 .dayNumber(0) // 임시, 나중에 재정렬
                                 .date(photoDate)
                                 .build();
-                        travelDayRepository.save(newDay);
+                        newDays.add(newDay);
                         dayMap.put(photoDate, newDay);
                         log.info("➕ 새 일차 생성: {}", photoDate);
                     }
                 }
+                travelDayRepository.saveAll(newDays);
 
-                // 8단계: dayNumber 재정렬
+                // 8단계: dayNumber 재정렬 (영속 상태이므로 변경 감지로 반영)
                 List<TravelDay> sortedDays = dayMap.values().stream()
                         .sorted(Comparator.comparing(TravelDay::getDate))
                         .collect(Collectors.toList());
@@ -834,22 +822,23 @@ public class TravelService {
                 int dayNumber = 1;
                 for (TravelDay day : sortedDays) {
                     day.updateDayNumber(dayNumber++);
-                    travelDayRepository.save(day);
                 }
 
-                // 9단계: 사진을 해당 날짜의 TravelDay에 배치
+                // 9단계: 사진을 해당 날짜의 TravelDay에 배치 (변경 감지로 UPDATE가 모여 배치로 전송됨)
                 for (Photo photo : allPhotos) {
                     LocalDate photoDate = photo.getTakenAt().toLocalDate();
                     TravelDay matchingDay = dayMap.get(photoDate);
 
                     if (matchingDay != null) {
                         photo.setTravelDay(matchingDay);
-                        photoRepository.save(photo);
                         log.info("📸 사진 {} → Day {} 연결", photo.getId(), matchingDay.getDayNumber());
                     }
                 }
 
                 // 10단계: 각 TravelDay의 dayRegion 자동 설정
+                // 사진 좌표를 한 번에 조회해 일차 지역(구/군)과 여행 지역(시/도) 모두에 재사용
+                Map<GeoCodingService.Coordinate, GeoCodingService.RegionInfo> regions = resolveRegions(allPhotos);
+
                 for (LocalDate photoDate : photoDates) {
                     TravelDay day = dayMap.get(photoDate);
 
@@ -859,29 +848,10 @@ public class TravelService {
                             .collect(Collectors.toList());
 
                     // 사진 위치 기반으로 dayRegion 결정
-                    Map<String, Long> regionCount = dayPhotos.stream()
-                            .filter(photo -> photo.getLatitude() != null && photo.getLongitude() != null)
-                            .map(photo -> {
-                                GeoCodingService.RegionInfo regionInfo = geoCodingService.getDetailedRegion(
-                                        photo.getLatitude(),
-                                        photo.getLongitude()
-                                );
-                                return regionInfo != null ? regionInfo.getRegion2depth() : null;
-                            })
-                            .filter(region -> region != null)
-                            .collect(Collectors.groupingBy(
-                                    region -> region,
-                                    Collectors.counting()
-                            ));
-
-                    String dayRegion = regionCount.entrySet().stream()
-                            .max(Map.Entry.comparingByValue())
-                            .map(Map.Entry::getKey)
-                            .orElse(null);
+                    String dayRegion = mostFrequentRegion(dayPhotos, regions, GeoCodingService.RegionInfo::getRegion2depth);
 
                     if (dayRegion != null) {
                         day.updateDayRegion(dayRegion);
-                        travelDayRepository.save(day);
                         log.info("🗺️ 일차 {} 지역 설정: {}", day.getDayNumber(), dayRegion);
                     }
                 }
@@ -892,22 +862,8 @@ public class TravelService {
                 travel.updateDates(newStartDate, newEndDate);
                 log.info("📅 여행 날짜 갱신: {} ~ {}", newStartDate, newEndDate);
 
-                // 12단계: 지역명 자동 갱신 (위도/경도 기반)
-                Map<String, Long> travelRegionCount = allPhotos.stream()
-                        .filter(photo -> photo.getLatitude() != null && photo.getLongitude() != null)
-                        .map(photo -> geoCodingService.getRegionFromCoordinates(
-                                photo.getLatitude(),
-                                photo.getLongitude()
-                        ))
-                        .filter(region -> region != null)
-                        .collect(Collectors.groupingBy(
-                                region -> region,
-                                Collectors.counting()
-                        ));
-
-                String newTrvRegion = travelRegionCount.entrySet().stream()
-                        .max(Map.Entry.comparingByValue())
-                        .map(Map.Entry::getKey)
+                // 12단계: 지역명 자동 갱신 (위도/경도 기반, 10단계에서 조회한 지역 정보 재사용)
+                String newTrvRegion = Optional.ofNullable(mostFrequentRegion(allPhotos, regions, GeoCodingService.RegionInfo::getRegion1depth))
                         .orElse("미지정");
 
                 travel.updateTrvRegion(newTrvRegion);
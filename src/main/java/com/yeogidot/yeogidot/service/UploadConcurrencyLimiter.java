@@ -0,0 +1,174 @@
+package com.yeogidot.yeogidot.service;
+
+import com.yeogidot.yeogidot.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사진 업로드 동시성 제한기
+ * - 작업이 돌려준 비동기 전송이 끝날 때까지 permit과 대기열 자리를 유지 (압축 + R2 전송 전체를 제한)
+ * - 전역 동시 실행 수 제한 (서버 전체 메모리/대역폭/임시 파일 보호)
+ * - 사용자별 동시 실행 수 제한 (한 사용자가 실행기를 독점하지 못하도록)
+ * - 대기열 길이 제한: 초과 시 429 (TooManyRequestsException)
+ * - 실행 중/대기 중 작업 수와 거절 횟수를 Micrometer 지표로 노출
+ */
+@Slf4j
+@Component
+public class UploadConcurrencyLimiter {
+
+    private final ExecutorService uploadExecutor;
+    private final Semaphore globalPermits;
+    private final int perUserMaxConcurrency;
+    private final int perUserMaxPending;
+    private final int maxPending;
+
+    // 사용자별 실행 슬롯 (대기 중인 작업이 없으면 맵에서 제거)
+    private final ConcurrentHashMap<Long, UserSlot> userSlots = new ConcurrentHashMap<>();
+
+    private final AtomicInteger pending = new AtomicInteger();   // 접수되었지만 아직 끝나지 않은 작업 수
+    private final AtomicInteger active = new AtomicInteger();    // 실제 실행 중인 작업 수
+    private final Counter rejectedCounter;
+
+    public UploadConcurrencyLimiter(
+            @Qualifier("uploadExecutor") ExecutorService uploadExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${upload.max-concurrency:8}") int maxConcurrency,
+            @Value("${upload.per-user-max-concurrency:4}") int perUserMaxConcurrency,
+            @Value("${upload.per-user-max-pending:100}") int perUserMaxPending,
+            @Value("${upload.max-pending:300}") int maxPending
+    ) {
+        this.uploadExecutor = uploadExecutor;
+        this.globalPermits = new Semaphore(maxConcurrency, true);
+        this.perUserMaxConcurrency = perUserMaxConcurrency;
+        this.perUserMaxPending = perUserMaxPending;
+        this.maxPending = maxPending;
+
+        Gauge.builder("upload.tasks.active", active, AtomicInteger::get)
+                .description("실행 중인 사진 업로드 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("upload.tasks.queued", this, limiter -> limiter.pending.get() - limiter.active.get())
+                .description("실행을 기다리는 사진 업로드 작업 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("upload.tasks.rejected")
+                .description("대기열 초과로 거절된 업로드 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 한 요청의 작업들을 한꺼번에 접수 (전부 접수되거나, 전부 거절됨)
+     * - 각 작업은 실행기에서 준비(압축 등)를 마친 뒤 비동기 전송 future를 반환
+     * - permit과 대기열 자리는 그 future가 완료될 때 반납
+     *
+     * @throws TooManyRequestsException 전역 또는 사용자별 대기열이 가득 찬 경우
+     */
+    public <T> List<CompletableFuture<T>> submitAll(Long userId, List<Callable<CompletableFuture<T>>> tasks) {
+        UserSlot slot = reserve(userId, tasks.size());
+
+        List<CompletableFuture<T>> futures = new ArrayList<>(tasks.size());
+        for (Callable<CompletableFuture<T>> task : tasks) {
+            futures.add(CompletableFuture.supplyAsync(() -> startWithPermits(userId, slot, task), uploadExecutor)
+                    .thenCompose(transfer -> transfer));
+        }
+        return futures;
+    }
+
+    private UserSlot reserve(Long userId, int count) {
+        if (pending.addAndGet(count) > maxPending) {
+            pending.addAndGet(-count);
+            reject("서버의 업로드 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.", userId);
+        }
+
+        boolean[] userLimitExceeded = {false};
+        UserSlot slot = userSlots.compute(userId, (id, existing) -> {
+            UserSlot s = existing != null ? existing : new UserSlot(perUserMaxConcurrency);
+            if (s.pending + count > perUserMaxPending) {
+                userLimitExceeded[0] = true;
+                return existing;
+            }
+            s.pending += count;
+            return s;
+        });
+
+        if (userLimitExceeded[0]) {
+            pending.addAndGet(-count);
+            reject("동시에 업로드 중인 사진이 너무 많습니다. 진행 중인 업로드가 끝난 뒤 다시 시도해주세요.", userId);
+        }
+        return slot;
+    }
+
+    private <T> CompletableFuture<T> startWithPermits(Long userId, UserSlot slot, Callable<CompletableFuture<T>> task) {
+        int held = 0; // 0: 없음, 1: 사용자 permit, 2: 사용자 + 전역 permit
+        try {
+            slot.permits.acquire();
+            held = 1;
+            globalPermits.acquire();
+            held = 2;
+            active.incrementAndGet();
+
+            // 전송이 끝날 때까지 permit과 대기열 자리를 유지 (성공/실패 모두 반납)
+            return task.call().whenComplete((result, error) -> release(userId, slot, 2));
+        } catch (InterruptedException e) {
+            release(userId, slot, held);
+            Thread.currentThread().interrupt();
+            throw new CompletionException("업로드 대기 중 인터럽트", e);
+        } catch (RuntimeException e) {
+            release(userId, slot, held);
+            throw e;
+        } catch (Exception e) {
+            release(userId, slot, held);
+            throw new CompletionException(e);
+        }
+    }
+
+    private void release(Long userId, UserSlot slot, int held) {
+        if (held >= 2) {
+            active.decrementAndGet();
+            globalPermits.release();
+        }
+        if (held >= 1) {
+            slot.permits.release();
+        }
+        releaseReservation(userId, 1);
+    }
+
+    private void releaseReservation(Long userId, int count) {
+        pending.addAndGet(-count);
+        userSlots.computeIfPresent(userId, (id, s) -> {
+            s.pending -= count;
+            return s.pending <= 0 ? null : s;
+        });
+    }
+
+    private void reject(String message, Long userId) {
+        rejectedCounter.increment();
+        log.warn("🚫 업로드 요청 거절 - userId: {}, 대기 중: {}", userId, pending.get());
+        throw new TooManyRequestsException(message);
+    }
+
+    /**
+     * 사용자별 실행 슬롯 (pending은 userSlots.compute 안에서만 수정)
+     */
+    private static class UserSlot {
+        private final Semaphore permits;
+        private int pending;
+
+        private UserSlot(int maxConcurrency) {
+            this.permits = new Semaphore(maxConcurrency, true);
+        }
+    }
+}
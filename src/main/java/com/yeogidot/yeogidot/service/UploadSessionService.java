@@ -0,0 +1,116 @@
+package com.yeogidot.yeogidot.service;
+
+import com.yeogidot.yeogidot.entity.Photo;
+import com.yeogidot.yeogidot.entity.UploadSession;
+import com.yeogidot.yeogidot.repository.PhotoRepository;
+import com.yeogidot.yeogidot.repository.UploadSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 업로드 세션 관리 (2단계 업로드)
+ * 1. open: 저장소에 올릴 파일 URL을 PENDING 세션으로 기록 (짧은 트랜잭션)
+ * 2. 파일 업로드는 트랜잭션 밖에서 진행 (DB 커넥션을 잡지 않음)
+ * 3. commit: 사진 저장 + 세션 COMMITTED (짧은 트랜잭션)
+ * - 실패 시 abort → UploadSessionSweeper가 파일 삭제 예약 후 세션 삭제
+ * - R2는 이름 변경(rename)이 없으므로 파일을 옮기지 않고 세션 상태로 확정 여부를 구분
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UploadSessionService {
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final PhotoRepository photoRepository;
+    private final StorageDeletionService storageDeletionService;
+    private final PhotoGeoTileService photoGeoTileService;
+
+    @Value("${upload.session.ttl:PT30M}")
+    private Duration sessionTtl;
+
+    @Value("${upload.session.committed-retention:P1D}")
+    private Duration committedRetention;
+
+    /**
+     * 업로드 시작 전 세션 기록
+     */
+    @Transactional
+    public Long open(Long userId, List<String> objectUrls) {
+        UploadSession session = UploadSession.builder()
+                .userId(userId)
+                .status(UploadSession.Status.PENDING)
+                .expiresAt(LocalDateTime.now().plus(sessionTtl))
+                .objectUrls(new ArrayList<>(objectUrls))
+                .build();
+        uploadSessionRepository.save(session);
+        log.info("📝 업로드 세션 시작 - sessionId: {}, 파일 {}개", session.getId(), objectUrls.size());
+        return session.getId();
+    }
+
+    /**
+     * 업로드 완료 후 사진 저장 + 세션 확정
+     */
+    @Transactional
+    public List<Photo> commit(Long sessionId, List<Photo> photos) {
+        UploadSession session = uploadSessionRepository.findById(sessionId)
+                .orElseThrow(() -> new IllegalStateException("업로드 세션이 존재하지 않습니다: " + sessionId));
+        if (session.getStatus() != UploadSession.Status.PENDING) {
+            throw new IllegalStateException("이미 종료된 업로드 세션입니다: " + sessionId);
+        }
+
+        List<Photo> saved = photoRepository.saveAll(photos);
+        photoGeoTileService.addPhotos(saved);
+        session.commit();
+        log.info("✅ 업로드 세션 확정 - sessionId: {}, 사진 {}장", sessionId, saved.size());
+        return saved;
+    }
+
+    /**
+     * 업로드/저장 실패 → 정리 대상으로 표시
+     */
+    @Transactional
+    public void abort(Long sessionId) {
+        uploadSessionRepository.findById(sessionId).ifPresent(session -> {
+            if (session.getStatus() == UploadSession.Status.PENDING) {
+                session.abort();
+                log.warn("⚠️ 업로드 세션 중단 - sessionId: {} (파일은 백그라운드에서 정리)", sessionId);
+            }
+        });
+    }
+
+    /**
+     * 정리 대상 세션 ID 조회 (실패 + 만료)
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findSweepable(int limit) {
+        return uploadSessionRepository.findSweepableIds(LocalDateTime.now(), PageRequest.of(0, limit));
+    }
+
+    /**
+     * 고아 세션 정리: 파일 삭제 예약 + 세션 삭제 (한 트랜잭션)
+     */
+    @Transactional
+    public void discard(Long sessionId) {
+        uploadSessionRepository.findById(sessionId).ifPresent(session -> {
+            storageDeletionService.enqueue(session.getObjectUrls());
+            uploadSessionRepository.delete(session);
+        });
+    }
+
+    /**
+     * 보관 기간이 지난 확정 세션 기록 삭제
+     */
+    @Transactional
+    public int deleteExpiredCommitted() {
+        return uploadSessionRepository.deleteCommittedBefore(LocalDateTime.now().minus(committedRetention));
+    }
+}
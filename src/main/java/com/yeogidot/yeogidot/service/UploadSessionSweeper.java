@@ -0,0 +1,46 @@
+package com.yeogidot.yeogidot.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 고아 파일 정리 작업
+ * - 중단(ABORTED)되었거나 만료된 PENDING 업로드 세션의 파일을 삭제 대기열에 넣고 세션 삭제
+ * - 두 작업이 한 트랜잭션이므로 도중에 실패해도 다음 주기에 다시 시도
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UploadSessionSweeper {
+
+    private final UploadSessionService uploadSessionService;
+
+    @Value("${upload.session.sweep-batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${upload.session.sweep-interval:PT5M}", initialDelayString = "${upload.session.sweep-initial-delay:PT1M}")
+    public void sweep() {
+        List<Long> sessionIds = uploadSessionService.findSweepable(batchSize);
+        int swept = 0;
+
+        for (Long sessionId : sessionIds) {
+            try {
+                uploadSessionService.discard(sessionId);
+                swept++;
+            } catch (Exception e) {
+                log.error("❌ 업로드 세션 정리 실패 (다음 주기에 재시도) - sessionId: {}", sessionId, e);
+            }
+        }
+
+        int purged = uploadSessionService.deleteExpiredCommitted();
+
+        if (swept > 0 || purged > 0) {
+            log.info("🧹 업로드 세션 정리 - 고아 세션 {}개, 확정 세션 기록 {}개", swept, purged);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.yeogidot.yeogidot.service;
+
+/**
+ * 사용자 인증 정보(비밀번호, 계정) 변경 이벤트
+ * - 트랜잭션 커밋 후 인증 principal 캐시 무효화에 사용
+ */
+public record UserChangedEvent(Long userId) {
+}
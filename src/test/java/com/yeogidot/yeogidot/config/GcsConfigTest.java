@@ -0,0 +1,141 @@
+package com.yeogidot.yeogidot.config;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * S3AsyncClient 멀티파트 기준을 로컬 S3 대역(HTTP 서버)으로 확인
+ */
+class GcsConfigTest {
+
+    private static final String BUCKET = "test-bucket";
+
+    @TempDir
+    Path tempDir;
+
+    private HttpServer server;
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private S3AsyncClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+
+        GcsConfig config = new GcsConfig();
+        ReflectionTestUtils.setField(config, "accessKey", "test");
+        ReflectionTestUtils.setField(config, "secretKey", "test");
+        ReflectionTestUtils.setField(config, "accountId", "test");
+        ReflectionTestUtils.setField(config, "endpointOverride", "http://localhost:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(config, "forcePathStyle", true);
+        ReflectionTestUtils.setField(config, "asyncMaxConcurrency", 4);
+        ReflectionTestUtils.setField(config, "connectionAcquireTimeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(config, "multipartThreshold", DataSize.ofMegabytes(1));
+        ReflectionTestUtils.setField(config, "multipartPartSize", DataSize.ofMegabytes(1));
+        client = config.s3AsyncClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.stop(0);
+    }
+
+    @Test
+    void uploadsSmallFileInSinglePut() throws Exception {
+        put("small.jpg", file(512 * 1024));
+
+        assertThat(requests).containsExactly("PUT /" + BUCKET + "/small.jpg");
+    }
+
+    @Test
+    void uploadsFileAboveThresholdInParts() throws Exception {
+        // 2.5MB, 파트 1MB → 3개 파트
+        put("large.jpg", file(5 * 512 * 1024));
+
+        assertThat(requests).first().isEqualTo("POST /" + BUCKET + "/large.jpg?uploads");
+        assertThat(requests).filteredOn(request -> request.startsWith("PUT ") && request.contains("partNumber="))
+                .hasSize(3);
+        assertThat(requests).last().asString().startsWith("POST /" + BUCKET + "/large.jpg?uploadId=");
+    }
+
+    private void put(String key, Path file) throws Exception {
+        client.putObject(PutObjectRequest.builder().bucket(BUCKET).key(key).contentType("image/jpeg").build(),
+                        AsyncRequestBody.fromFile(file))
+                .get(10, TimeUnit.SECONDS);
+    }
+
+    private Path file(int size) throws IOException {
+        byte[] data = new byte[size];
+        new Random(size).nextBytes(data);
+        return Files.write(tempDir.resolve("upload-" + size), data);
+    }
+
+    /**
+     * PutObject / CreateMultipartUpload / UploadPart / CompleteMultipartUpload 에만 응답하는 최소 S3 대역
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String query = exchange.getRequestURI().getQuery();
+        requests.add(exchange.getRequestMethod() + " " + path + (query != null ? "?" + query : ""));
+
+        byte[] body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = in.readAllBytes();
+        }
+
+        String key = path.substring(BUCKET.length() + 2);
+        String response = "";
+        if ("POST".equals(exchange.getRequestMethod()) && query != null && query.startsWith("uploads")) {
+            response = "<InitiateMultipartUploadResult><Bucket>" + BUCKET + "</Bucket><Key>" + key
+                    + "</Key><UploadId>upload-1</UploadId></InitiateMultipartUploadResult>";
+        } else if ("POST".equals(exchange.getRequestMethod())) {
+            response = "<CompleteMultipartUploadResult><Bucket>" + BUCKET + "</Bucket><Key>" + key
+                    + "</Key><ETag>\"done\"</ETag></CompleteMultipartUploadResult>";
+        } else {
+            exchange.getResponseHeaders().add("ETag", "\"" + md5(body) + "\"");
+        }
+
+        byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            exchange.getResponseBody().write(bytes);
+        }
+        exchange.close();
+    }
+
+    private static String md5(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.yeogidot.yeogidot.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ExifReaderTest {
+
+    private static final LocalDateTime TAKEN_AT = LocalDateTime.of(2024, 8, 2, 22, 38, 6);
+
+    // 테스트용 TIFF 블록 배치 (리틀 엔디언)
+    private static final int IFD0 = 8;
+    private static final int EXIF_IFD = 38;
+    private static final int GPS_IFD = 56;
+    private static final int DATE_TIME_VALUE = 110;
+    private static final int LATITUDE_VALUE = 130;
+    private static final int LONGITUDE_VALUE = 154;
+    private static final int TIFF_SIZE = 178;
+
+    private final ExifReader exifReader = new ExifReader();
+
+    @Test
+    void readsTakenAtAndCoordinatesFromJpeg() {
+        ExifReader.ExifData exif = read(jpeg(tiff()));
+
+        assertThat(exif.takenAt()).isEqualTo(TAKEN_AT);
+        assertThat(exif.latitude()).isCloseTo(35.1584, within(1e-9));
+        assertThat(exif.longitude()).isCloseTo(129.1603, within(1e-9));
+    }
+
+    @Test
+    void readsPngAndWebpContainers() {
+        assertThat(read(png(tiff())).takenAt()).isEqualTo(TAKEN_AT);
+        assertThat(read(webp(tiff())).takenAt()).isEqualTo(TAKEN_AT);
+    }
+
+    @Test
+    void returnsEmptyForMissingOrTruncatedExif() {
+        assertThat(read(new byte[0])).isEqualTo(ExifReader.ExifData.EMPTY);
+        assertThat(read("no image".getBytes())).isEqualTo(ExifReader.ExifData.EMPTY);
+
+        byte[] jpeg = jpeg(tiff());
+        // 세그먼트 헤더 중간, EXIF 블록 중간에서 잘린 파일
+        for (int length : new int[]{3, 5, 12, 60}) {
+            assertThat(read(Arrays.copyOf(jpeg, length))).as("%d bytes", length).isEqualTo(ExifReader.ExifData.EMPTY);
+        }
+        byte[] png = png(tiff());
+        assertThat(read(Arrays.copyOf(png, 40))).isEqualTo(ExifReader.ExifData.EMPTY);
+    }
+
+    @Test
+    void returnsEmptyForOffsetsOutsideBlock() {
+        // Exif IFD 포인터가 블록 밖
+        byte[] tiff = tiff();
+        ByteBuffer.wrap(tiff).order(ByteOrder.LITTLE_ENDIAN).putInt(IFD0 + 2 + 8, 0x7FFF_FFF0);
+        assertThat(read(jpeg(tiff))).isEqualTo(ExifReader.ExifData.EMPTY);
+
+        // GPS 좌표 값 오프셋이 음수
+        tiff = tiff();
+        ByteBuffer.wrap(tiff).order(ByteOrder.LITTLE_ENDIAN).putInt(GPS_IFD + 2 + 12 + 8, -4);
+        assertThat(read(jpeg(tiff))).isEqualTo(ExifReader.ExifData.EMPTY);
+
+        // 바이트 순서 표시가 II/MM이 아님
+        tiff = tiff();
+        tiff[0] = 'X';
+        assertThat(read(jpeg(tiff))).isEqualTo(ExifReader.ExifData.EMPTY);
+    }
+
+    @Test
+    void ignoresOversizedAsciiValue() {
+        // 촬영 시각 문자열 길이가 비정상적으로 큼 → 촬영 시각만 없음, 좌표는 유지
+        byte[] tiff = tiff();
+        ByteBuffer.wrap(tiff).order(ByteOrder.LITTLE_ENDIAN).putInt(EXIF_IFD + 2 + 4, 1 << 30);
+
+        ExifReader.ExifData exif = read(jpeg(tiff));
+        assertThat(exif.takenAt()).isNull();
+        assertThat(exif.latitude()).isNotNull();
+    }
+
+    @Test
+    void skipsOversizedDeclaredBlockWithoutAllocating() {
+        // PNG eXIf 청크가 4GB 가까운 크기를 선언 (실제 데이터는 없음)
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        png.writeBytes(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'});
+        png.writeBytes(ByteBuffer.allocate(8).putInt(0xFFFF_FFF0).put(ascii("eXIf")).array());
+        assertThat(read(png.toByteArray())).isEqualTo(ExifReader.ExifData.EMPTY);
+
+        // WebP EXIF 청크가 상한을 넘는 크기를 선언
+        ByteBuffer webp = ByteBuffer.allocate(20).order(ByteOrder.LITTLE_ENDIAN);
+        webp.put(ascii("RIFF")).putInt(Integer.MAX_VALUE).put(ascii("WEBP")).put(ascii("EXIF")).putInt(Integer.MAX_VALUE);
+        assertThat(read(webp.array())).isEqualTo(ExifReader.ExifData.EMPTY);
+    }
+
+    private ExifReader.ExifData read(byte[] data) {
+        return exifReader.read(new ByteArrayInputStream(data));
+    }
+
+    /**
+     * IFD0(Exif/GPS 포인터) → Exif IFD(DateTimeOriginal) → GPS IFD(북위 35.1584, 동경 129.1603)
+     */
+    private static byte[] tiff() {
+        ByteBuffer tiff = ByteBuffer.allocate(TIFF_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        tiff.put(ascii("II")).putShort((short) 42).putInt(IFD0);
+
+        tiff.position(IFD0);
+        tiff.putShort((short) 2);
+        entry(tiff, 0x8769, 4, 1, EXIF_IFD);
+        entry(tiff, 0x8825, 4, 1, GPS_IFD);
+        tiff.putInt(0);
+
+        tiff.position(EXIF_IFD);
+        tiff.putShort((short) 1);
+        entry(tiff, 0x9003, 2, 20, DATE_TIME_VALUE);
+        tiff.putInt(0);
+
+        tiff.position(GPS_IFD);
+        tiff.putShort((short) 4);
+        entry(tiff, 0x0001, 2, 2, 'N');
+        entry(tiff, 0x0002, 5, 3, LATITUDE_VALUE);
+        entry(tiff, 0x0003, 2, 2, 'E');
+        entry(tiff, 0x0004, 5, 3, LONGITUDE_VALUE);
+        tiff.putInt(0);
+
+        tiff.position(DATE_TIME_VALUE);
+        tiff.put(ascii("2024:08:02 22:38:06")).put((byte) 0);
+        // 35° 9' 30.24" / 129° 9' 37.08"
+        tiff.putInt(35).putInt(1).putInt(9).putInt(1).putInt(3024).putInt(100);
+        tiff.putInt(129).putInt(1).putInt(9).putInt(1).putInt(3708).putInt(100);
+        return tiff.array();
+    }
+
+    private static void entry(ByteBuffer tiff, int tag, int type, int count, int value) {
+        tiff.putShort((short) tag).putShort((short) type).putInt(count).putInt(value);
+    }
+
+    private static byte[] jpeg(byte[] tiff) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(new byte[]{(byte) 0xFF, (byte) 0xD8});
+        int length = 2 + 6 + tiff.length;
+        out.writeBytes(new byte[]{(byte) 0xFF, (byte) 0xE1, (byte) (length >> 8), (byte) length});
+        out.writeBytes(new byte[]{'E', 'x', 'i', 'f', 0, 0});
+        out.writeBytes(tiff);
+        out.writeBytes(new byte[]{(byte) 0xFF, (byte) 0xDA, 0, 2});
+        return out.toByteArray();
+    }
+
+    private static byte[] png(byte[] tiff) {
+        ByteBuffer png = ByteBuffer.allocate(8 + 12 + 13 + 12 + tiff.length + 12);
+        png.put(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'});
+        png.putInt(13).put(ascii("IHDR")).putInt(1).putInt(1).put(new byte[]{8, 2, 0, 0, 0}).putInt(0);
+        png.putInt(tiff.length).put(ascii("eXIf")).put(tiff).putInt(0);
+        png.putInt(0).put(ascii("IEND")).putInt(0);
+        return png.array();
+    }
+
+    private static byte[] webp(byte[] tiff) {
+        ByteBuffer webp = ByteBuffer.allocate(12 + 8 + tiff.length).order(ByteOrder.LITTLE_ENDIAN);
+        webp.put(ascii("RIFF")).putInt(4 + 8 + tiff.length).put(ascii("WEBP"));
+        webp.put(ascii("EXIF")).putInt(tiff.length).put(tiff);
+        return webp.array();
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
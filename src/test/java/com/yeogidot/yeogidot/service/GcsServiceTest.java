@@ -0,0 +1,230 @@
+package com.yeogidot.yeogidot.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.stubbing.Answer;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * R2 비동기 업로드: 저장 키/콘텐츠 타입, 임시 파일 정리, 일부 실패 시 롤백을 S3AsyncClient 목으로 확인
+ */
+class GcsServiceTest {
+
+    private static final String PUBLIC_URL = "https://cdn.example.com";
+    private static final Path TEMP_DIR = Path.of(System.getProperty("java.io.tmpdir"));
+
+    private S3Client s3Client;
+    private S3AsyncClient s3AsyncClient;
+    private GcsService gcsService;
+
+    // putObject 호출 기록 (요청, 본문, 테스트가 직접 완료시키는 응답 future)
+    private final List<PutObjectRequest> putRequests = new CopyOnWriteArrayList<>();
+    private final List<AsyncRequestBody> putBodies = new CopyOnWriteArrayList<>();
+    private final List<CompletableFuture<PutObjectResponse>> putResponses = new CopyOnWriteArrayList<>();
+
+    private Set<Path> tempFilesBefore;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        s3Client = mock(S3Client.class);
+        s3AsyncClient = mock(S3AsyncClient.class);
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class))).thenAnswer(recordPut());
+
+        gcsService = new GcsService(s3Client, s3AsyncClient);
+        ReflectionTestUtils.setField(gcsService, "bucketName", "photos");
+        ReflectionTestUtils.setField(gcsService, "publicUrl", PUBLIC_URL);
+        ReflectionTestUtils.setField(gcsService, "mediumMaxSize", 1280);
+        ReflectionTestUtils.setField(gcsService, "thumbnailMaxSize", 320);
+
+        tempFilesBefore = uploadTempFiles();
+    }
+
+    @Test
+    void plansDerivativeKeysWithSharedName() {
+        GcsService.UploadPlan plan = gcsService.plan(new MockMultipartFile("files", "beach.png", "image/png", new byte[0]));
+
+        String uuid = plan.originalKey().substring(0, plan.originalKey().length() - ".png".length());
+        assertThat(plan.originalKey()).endsWith(".png");
+        assertThat(plan.mediumKey()).isEqualTo("medium/" + uuid + ".jpg");
+        assertThat(plan.thumbnailKey()).isEqualTo("thumb/" + uuid + ".jpg");
+        assertThat(gcsService.plannedUrls(plan)).containsExactly(
+                PUBLIC_URL + "/" + plan.originalKey(), PUBLIC_URL + "/" + plan.mediumKey(), PUBLIC_URL + "/" + plan.thumbnailKey());
+
+        // 압축 대상이 아닌 형식은 원본 키만
+        GcsService.UploadPlan webp = gcsService.plan(new MockMultipartFile("files", "beach.webp", "image/webp", new byte[0]));
+        assertThat(webp.originalKey()).endsWith(".webp");
+        assertThat(webp.mediumKey()).isNull();
+        assertThat(webp.thumbnailKey()).isNull();
+        assertThat(gcsService.plannedUrls(webp)).hasSize(1);
+    }
+
+    @Test
+    void uploadsThreeJpegSizesAndDeletesTempFiles() throws Exception {
+        MockMultipartFile file = png(2000, 1500);
+        GcsService.UploadPlan plan = gcsService.plan(file);
+
+        CompletableFuture<GcsService.UploadedImage> result = gcsService.uploadFileAsync(file, plan);
+
+        assertThat(putRequests).extracting(PutObjectRequest::key)
+                .containsExactly(plan.originalKey(), plan.mediumKey(), plan.thumbnailKey());
+        assertThat(putRequests).allSatisfy(request -> {
+            assertThat(request.bucket()).isEqualTo("photos");
+            assertThat(request.contentType()).isEqualTo("image/jpeg");
+        });
+        // 원본 > 중간 > 썸네일 순으로 작음
+        long original = putBodies.get(0).contentLength().orElseThrow();
+        long medium = putBodies.get(1).contentLength().orElseThrow();
+        long thumbnail = putBodies.get(2).contentLength().orElseThrow();
+        assertThat(original).isGreaterThan(medium);
+        assertThat(medium).isGreaterThan(thumbnail);
+
+        // 전송 중에는 임시 파일 3개가 남아 있음
+        Set<Path> tempFiles = newTempFiles();
+        assertThat(tempFiles).hasSize(3);
+
+        putResponses.forEach(response -> response.complete(PutObjectResponse.builder().build()));
+
+        assertThat(result).succeedsWithin(Duration.ofSeconds(1)).isEqualTo(new GcsService.UploadedImage(
+                PUBLIC_URL + "/" + plan.originalKey(), PUBLIC_URL + "/" + plan.mediumKey(), PUBLIC_URL + "/" + plan.thumbnailKey()));
+        assertThat(tempFiles).noneMatch(Files::exists);
+    }
+
+    @Test
+    void uploadsUncompressibleFileAsIs() throws Exception {
+        byte[] webp = "RIFF\0\0\0\0WEBPVP8 ".getBytes();
+        MockMultipartFile file = new MockMultipartFile("files", "beach.webp", "image/webp", webp);
+        GcsService.UploadPlan plan = gcsService.plan(file);
+
+        CompletableFuture<GcsService.UploadedImage> result = gcsService.uploadFileAsync(file, plan);
+
+        assertThat(putRequests).singleElement().satisfies(request -> {
+            assertThat(request.key()).isEqualTo(plan.originalKey());
+            assertThat(request.contentType()).isEqualTo("image/webp");
+        });
+        assertThat(putBodies.get(0).contentLength()).contains((long) webp.length);
+        Set<Path> tempFiles = newTempFiles();
+        assertThat(tempFiles).hasSize(1);
+
+        putResponses.get(0).completeExceptionally(SdkClientException.create("connection reset"));
+
+        assertThat(result).failsWithin(Duration.ofSeconds(1)).withThrowableOfType(ExecutionException.class)
+                .withRootCauseInstanceOf(SdkClientException.class);
+        assertThat(tempFiles).noneMatch(Files::exists);
+    }
+
+    @Test
+    void rollsBackUploadedSiblingsWhenOnePutFails() throws Exception {
+        MockMultipartFile file = png(800, 600);
+        GcsService.UploadPlan plan = gcsService.plan(file);
+
+        CompletableFuture<GcsService.UploadedImage> result = gcsService.uploadFileAsync(file, plan);
+        Set<Path> tempFiles = newTempFiles();
+
+        putResponses.get(0).complete(PutObjectResponse.builder().build());
+        putResponses.get(1).complete(PutObjectResponse.builder().build());
+        putResponses.get(2).completeExceptionally(SdkClientException.create("connection reset"));
+
+        assertThat(result).failsWithin(Duration.ofSeconds(1)).withThrowableOfType(ExecutionException.class)
+                .withRootCauseInstanceOf(SdkClientException.class);
+        assertThat(deletedKeys(2)).containsExactlyInAnyOrder(plan.originalKey(), plan.mediumKey());
+        assertThat(tempFiles).hasSize(3).noneMatch(Files::exists);
+    }
+
+    @Test
+    void rollsBackWhenPutFailsBeforeSending() throws Exception {
+        // 두 번째 요청(중간 크기)은 전송 전에 SDK가 예외를 던짐
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .thenAnswer(recordPut())
+                .thenThrow(SdkClientException.create("invalid request"))
+                .thenAnswer(recordPut());
+        MockMultipartFile file = png(800, 600);
+        GcsService.UploadPlan plan = gcsService.plan(file);
+
+        CompletableFuture<GcsService.UploadedImage> result = gcsService.uploadFileAsync(file, plan);
+
+        assertThat(putRequests).extracting(PutObjectRequest::key).containsExactly(plan.originalKey(), plan.thumbnailKey());
+        putResponses.forEach(response -> response.complete(PutObjectResponse.builder().build()));
+
+        assertThat(result).failsWithin(Duration.ofSeconds(1)).withThrowableOfType(ExecutionException.class)
+                .withRootCauseInstanceOf(SdkClientException.class);
+        assertThat(deletedKeys(2)).containsExactlyInAnyOrder(plan.originalKey(), plan.thumbnailKey());
+        assertThat(newTempFiles()).isEmpty();
+    }
+
+    private Answer<CompletableFuture<PutObjectResponse>> recordPut() {
+        return invocation -> {
+            CompletableFuture<PutObjectResponse> response = new CompletableFuture<>();
+            putRequests.add(invocation.getArgument(0));
+            putBodies.add(invocation.getArgument(1));
+            putResponses.add(response);
+            return response;
+        };
+    }
+
+    private List<String> deletedKeys(int count) {
+        ArgumentCaptor<DeleteObjectRequest> captor = ArgumentCaptor.forClass(DeleteObjectRequest.class);
+        verify(s3Client, times(count)).deleteObject(captor.capture());
+        return captor.getAllValues().stream().map(DeleteObjectRequest::key).toList();
+    }
+
+    private Set<Path> newTempFiles() throws IOException {
+        Set<Path> files = uploadTempFiles();
+        files.removeAll(tempFilesBefore);
+        return files;
+    }
+
+    private static Set<Path> uploadTempFiles() throws IOException {
+        try (Stream<Path> files = Files.list(TEMP_DIR)) {
+            return files.filter(path -> path.getFileName().toString().startsWith("yeogidot-upload-"))
+                    .collect(Collectors.toCollection(HashSet::new));
+        }
+    }
+
+    private static MockMultipartFile png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        for (int y = 0; y < height; y += 20) {
+            graphics.setColor(new Color((y * 7) % 256, (y * 3) % 256, 180));
+            graphics.fillRect(0, y, width, 20);
+        }
+        graphics.dispose();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return new MockMultipartFile("files", "beach.png", "image/png", out.toByteArray());
+    }
+}
@@ -0,0 +1,82 @@
+package com.yeogidot.yeogidot.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeoHashTest {
+
+    @Test
+    void encodesKnownValues() {
+        assertThat(GeoHash.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+        assertThat(GeoHash.encode(42.6, -5.6, 5)).isEqualTo("ezs42");
+        // 서울시청
+        assertThat(GeoHash.encode(37.5665, 126.9780, 6)).isEqualTo("wydm9q");
+    }
+
+    @Test
+    void commonPrefixInsideOneCell() {
+        // ezs42 격자(위도 42.583~42.627, 경도 -5.625~-5.581) 안의 영역
+        String prefix = GeoHash.commonPrefix(42.59, -5.62, 42.62, -5.59);
+        assertThat(prefix).startsWith("ezs42");
+        assertThat(GeoHash.encode(42.6, -5.6, GeoHash.STORED_PRECISION)).startsWith(prefix);
+    }
+
+    @Test
+    void commonPrefixCollapsesAcrossCellBoundary() {
+        // 적도/본초자오선을 걸치면 1자리 격자부터 달라 공통 prefix가 없음
+        assertThat(GeoHash.commonPrefix(-0.1, -0.1, 0.1, 0.1)).isEmpty();
+    }
+
+    @Test
+    void upperBoundCoversOnlyPrefixRange() {
+        String upper = GeoHash.upperBound("ezs");
+        assertThat("ezs").isLessThan(upper);
+        assertThat("ezs42").isGreaterThanOrEqualTo("ezs").isLessThan(upper);
+        assertThat("ezszzzzzz").isLessThan(upper);
+        assertThat("ezt").isGreaterThan(upper);
+        assertThat("ezr").isLessThan("ezs");
+    }
+
+    @Test
+    void coveringCellsAcrossCellBoundary() {
+        List<String> cells = GeoHash.coveringCells(-0.1, -0.1, 0.1, 0.1, 1);
+
+        assertThat(cells).containsExactly("7", "e", "k", "s");
+        assertThat(GeoHash.coveringCellCount(-0.1, -0.1, 0.1, 0.1, 1)).isEqualTo(4);
+    }
+
+    @Test
+    void coveringCellsContainEveryCorner() {
+        double south = 35.05, west = 128.95, north = 35.25, east = 129.25;
+        List<String> cells = GeoHash.coveringCells(south, west, north, east, 5);
+
+        assertThat(cells).hasSize((int) GeoHash.coveringCellCount(south, west, north, east, 5))
+                .isSorted()
+                .allMatch(cell -> cell.length() == 5)
+                .contains(GeoHash.encode(south, west, 5), GeoHash.encode(south, east, 5),
+                        GeoHash.encode(north, west, 5), GeoHash.encode(north, east, 5),
+                        GeoHash.encode(35.15, 129.1, 5));
+    }
+
+    @Test
+    void coveringCellsIncludeAxisEdges() {
+        assertThat(GeoHash.coveringCells(89.9, 179.9, 90, 180, 1)).containsExactly("z");
+        assertThat(GeoHash.coveringCells(-90, -180, 90, 180, 1)).hasSize(32);
+    }
+
+    @Test
+    void coveringPrecisionLowersForWideArea() {
+        // 작은 영역은 요청 자리수 그대로
+        assertThat(GeoHash.coveringPrecision(35.15, 129.15, 35.16, 129.16, 6, 1024)).isEqualTo(6);
+        // 한반도 전체를 8자리로 덮으면 격자가 너무 많아 자리수를 낮춤
+        int precision = GeoHash.coveringPrecision(33, 124, 39, 132, 8, 1024);
+        assertThat(precision).isLessThan(8);
+        assertThat(GeoHash.coveringCellCount(33, 124, 39, 132, precision)).isLessThanOrEqualTo(1024);
+        assertThat(GeoHash.coveringCellCount(33, 124, 39, 132, precision + 1)).isGreaterThan(1024);
+        // 전 세계도 1자리(32개)까지는 내려감
+        assertThat(GeoHash.coveringPrecision(-90, -180, 90, 180, 8, 16)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,171 @@
+package com.yeogidot.yeogidot.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageHeaderSnifferTest {
+
+    private ImageHeaderSniffer sniffer;
+
+    @BeforeEach
+    void setUp() {
+        sniffer = new ImageHeaderSniffer();
+        ReflectionTestUtils.setField(sniffer, "maxPixels", 100_000_000L);
+    }
+
+    @Test
+    void readsPngHeader() throws IOException {
+        ImageHeaderSniffer.ImageInfo info = sniff(png(4032, 3024));
+
+        assertThat(info).isEqualTo(new ImageHeaderSniffer.ImageInfo(ImageHeaderSniffer.Format.PNG, 4032, 3024));
+        assertThat(sniffer.isWithinPixelLimit(info)).isTrue();
+    }
+
+    @Test
+    void readsJpegHeaderAfterOtherSegments() throws IOException {
+        ImageHeaderSniffer.ImageInfo info = sniff(jpeg(1920, 1080));
+
+        assertThat(info).isEqualTo(new ImageHeaderSniffer.ImageInfo(ImageHeaderSniffer.Format.JPEG, 1920, 1080));
+    }
+
+    @Test
+    void readsWebpHeaders() throws IOException {
+        assertThat(sniff(webpVp8x(800, 600)))
+                .isEqualTo(new ImageHeaderSniffer.ImageInfo(ImageHeaderSniffer.Format.WEBP, 800, 600));
+        assertThat(sniff(webpVp8l(640, 480)))
+                .isEqualTo(new ImageHeaderSniffer.ImageInfo(ImageHeaderSniffer.Format.WEBP, 640, 480));
+    }
+
+    @Test
+    void rejectsNonImageAndEmptyInput() throws IOException {
+        assertThat(sniff(new byte[0])).isNull();
+        assertThat(sniff("<html>not an image</html>".getBytes())).isNull();
+        assertThat(sniff(new byte[]{(byte) 0x89, 'P', 'N', 'G', 'x', 'x', 'x', 'x'})).isNull();
+    }
+
+    @Test
+    void rejectsTruncatedHeaders() throws IOException {
+        byte[] png = png(100, 100);
+        byte[] jpeg = jpeg(100, 100);
+        byte[] webp = webpVp8x(100, 100);
+
+        // 시그니처 직후, 크기 필드 중간 등 여러 위치에서 잘린 파일
+        for (int length : new int[]{2, 8, 12, 16, 20}) {
+            assertThat(sniff(Arrays.copyOf(png, length))).as("png %d bytes", length).isNull();
+        }
+        for (int length : new int[]{2, 4, 10, 20, 27}) {
+            assertThat(sniff(Arrays.copyOf(jpeg, length))).as("jpeg %d bytes", length).isNull();
+        }
+        for (int length : new int[]{4, 12, 20, webp.length - 2}) {
+            assertThat(sniff(Arrays.copyOf(webp, length))).as("webp %d bytes", length).isNull();
+        }
+    }
+
+    @Test
+    void rejectsBadLengthsAndOffsets() throws IOException {
+        // JPEG 세그먼트 길이가 2 미만
+        assertThat(sniff(bytes(0xFF, 0xD8, 0xFF, 0xE0, 0x00, 0x01))).isNull();
+        // JPEG 세그먼트 길이가 파일 끝을 넘어감
+        assertThat(sniff(bytes(0xFF, 0xD8, 0xFF, 0xE0, 0xFF, 0xFF, 0x00, 0x00))).isNull();
+        // SOF 없이 스캔 시작
+        assertThat(sniff(bytes(0xFF, 0xD8, 0xFF, 0xDA, 0x00, 0x02))).isNull();
+
+        // PNG 첫 청크가 13바이트 IHDR이 아님
+        byte[] png = png(100, 100);
+        ByteBuffer.wrap(png).putInt(8, 14);
+        assertThat(sniff(png)).isNull();
+
+        // 가로/세로가 0 또는 음수
+        assertThat(sniff(png(0, 100))).isNull();
+        assertThat(sniff(png(-1, 100))).isNull();
+        assertThat(sniff(jpeg(100, 0))).isNull();
+    }
+
+    @Test
+    void flagsDecompressionBombByDeclaredSize() throws IOException {
+        // 파일은 수십 바이트지만 헤더에 선언된 픽셀 수가 상한을 넘음 → 디코딩 전에 거절
+        ImageHeaderSniffer.ImageInfo png = sniff(png(100_000, 100_000));
+        assertThat(png).isNotNull();
+        assertThat(png.pixels()).isEqualTo(10_000_000_000L);
+        assertThat(sniffer.isWithinPixelLimit(png)).isFalse();
+
+        ImageHeaderSniffer.ImageInfo jpeg = sniff(jpeg(65_535, 65_535));
+        assertThat(sniffer.isWithinPixelLimit(jpeg)).isFalse();
+
+        ImageHeaderSniffer.ImageInfo webp = sniff(webpVp8x(16_384, 16_384));
+        assertThat(sniffer.isWithinPixelLimit(webp)).isFalse();
+
+        // 상한과 정확히 같으면 허용
+        assertThat(sniffer.isWithinPixelLimit(sniff(png(10_000, 10_000)))).isTrue();
+    }
+
+    private ImageHeaderSniffer.ImageInfo sniff(byte[] data) throws IOException {
+        return sniffer.sniff(new ByteArrayInputStream(data));
+    }
+
+    private static byte[] png(int width, int height) {
+        ByteBuffer buffer = ByteBuffer.allocate(8 + 8 + 13 + 4);
+        buffer.put(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'});
+        buffer.putInt(13).put("IHDR".getBytes());
+        buffer.putInt(width).putInt(height).put(new byte[]{8, 2, 0, 0, 0});
+        buffer.putInt(0); // CRC (검사하지 않음)
+        return buffer.array();
+    }
+
+    private static byte[] jpeg(int width, int height) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(bytes(0xFF, 0xD8));
+        // APP0 (JFIF) 세그먼트
+        out.writeBytes(bytes(0xFF, 0xE0, 0x00, 0x10, 'J', 'F', 'I', 'F', 0, 1, 1, 0, 0, 1, 0, 1, 0, 0));
+        // SOF0: 길이 17, 정밀도 8, 세로, 가로, 성분 3개
+        out.writeBytes(bytes(0xFF, 0xC0, 0x00, 0x11, 0x08,
+                height >> 8, height & 0xFF, width >> 8, width & 0xFF,
+                3, 1, 0x22, 0, 2, 0x11, 1, 3, 0x11, 1));
+        out.writeBytes(bytes(0xFF, 0xD9));
+        return out.toByteArray();
+    }
+
+    private static byte[] webpVp8x(int width, int height) {
+        ByteBuffer buffer = riff("VP8X", 10);
+        buffer.putInt(0); // 플래그 + 예약
+        putUInt24(buffer, width - 1);
+        putUInt24(buffer, height - 1);
+        return buffer.array();
+    }
+
+    private static byte[] webpVp8l(int width, int height) {
+        ByteBuffer buffer = riff("VP8L", 5);
+        buffer.put((byte) 0x2F);
+        buffer.putInt((width - 1) | ((height - 1) << 14));
+        return buffer.array();
+    }
+
+    private static ByteBuffer riff(String chunk, int chunkSize) {
+        ByteBuffer buffer = ByteBuffer.allocate(12 + 8 + chunkSize).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put("RIFF".getBytes()).putInt(4 + 8 + chunkSize).put("WEBP".getBytes());
+        buffer.put(chunk.getBytes()).putInt(chunkSize);
+        return buffer;
+    }
+
+    private static void putUInt24(ByteBuffer buffer, int value) {
+        buffer.put((byte) value).put((byte) (value >> 8)).put((byte) (value >> 16));
+    }
+
+    private static byte[] bytes(int... values) {
+        byte[] result = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = (byte) values[i];
+        }
+        return result;
+    }
+}
@@ -0,0 +1,116 @@
+package com.yeogidot.yeogidot.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KakaoReverseGeocoderTest {
+
+    private static final BigDecimal LATITUDE = new BigDecimal("35.1587");
+    private static final BigDecimal LONGITUDE = new BigDecimal("129.1604");
+    private static final Duration OPEN_DURATION = Duration.ofMillis(50);
+
+    private RestTemplate restTemplate;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = mock(RestTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    // 동시 호출 1개, 실패 1회면 서킷 열림
+    private KakaoReverseGeocoder geocoder(Duration openDuration) {
+        return new KakaoReverseGeocoder(restTemplate, meterRegistry,
+                1, Duration.ofMillis(20), 1, openDuration);
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void openCircuitSkipsCalls() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class), any(), any()))
+                .thenThrow(new ResourceAccessException("timeout"));
+        KakaoReverseGeocoder geocoder = geocoder(Duration.ofMinutes(1));
+
+        assertThat(geocoder.reverseGeocode(LATITUDE, LONGITUDE)).isNull();
+        assertThat(geocoder.reverseGeocode(LATITUDE, LONGITUDE)).isNull();
+
+        verify(restTemplate, times(1))
+                .exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class), any(), any());
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void bulkheadRejectionInHalfOpenDoesNotConsumeTrial() throws InterruptedException {
+        Map body = Map.of("documents", List.of(Map.of(
+                "region_1depth_name", "부산광역시", "region_2depth_name", "해운대구")));
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class), any(), any()))
+                .thenThrow(new ResourceAccessException("timeout"))
+                .thenReturn(ResponseEntity.ok(body));
+        KakaoReverseGeocoder geocoder = geocoder(OPEN_DURATION);
+
+        // 1. 실패 → 서킷 열림
+        assertThat(geocoder.reverseGeocode(LATITUDE, LONGITUDE)).isNull();
+
+        // 2. 열린 시간이 지나 시험 호출 가능 상태(half-open)
+        Thread.sleep(OPEN_DURATION.toMillis() + 20);
+
+        // 3. 벌크헤드 대기 중 인터럽트 → 호출하지 않고 거절
+        Thread.currentThread().interrupt();
+        try {
+            assertThat(geocoder.reverseGeocode(LATITUDE, LONGITUDE)).isNull();
+        } finally {
+            assertThat(Thread.interrupted()).isTrue();
+        }
+
+        // 4. 거절된 요청이 시험 호출 자리를 차지하지 않았으므로 다음 요청이 시험 호출로 나가고 서킷이 닫힘
+        GeoCodingService.RegionInfo regionInfo = geocoder.reverseGeocode(LATITUDE, LONGITUDE);
+        assertThat(regionInfo).isNotNull();
+        assertThat(regionInfo.getDistrictName()).isEqualTo("부산광역시 해운대구");
+        assertThat(geocoder.reverseGeocode(LATITUDE, LONGITUDE)).isNotNull();
+
+        verify(restTemplate, times(3))
+                .exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class), any(), any());
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void recordsLatencyIntoPreRegisteredTimers() {
+        Map body = Map.of("documents", List.of(Map.of(
+                "region_1depth_name", "부산광역시", "region_2depth_name", "해운대구")));
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class), any(), any()))
+                .thenReturn(ResponseEntity.ok(body))
+                .thenThrow(new ResourceAccessException("timeout"));
+        KakaoReverseGeocoder geocoder = geocoder(Duration.ofMinutes(1));
+
+        // 결과별 타이머는 생성 시 모두 등록됨
+        assertThat(meterRegistry.find("geocoding.kakao.requests").timers()).hasSize(3);
+
+        geocoder.reverseGeocode(LATITUDE, LONGITUDE);
+        geocoder.reverseGeocode(LATITUDE, LONGITUDE);
+
+        assertThat(meterRegistry.find("geocoding.kakao.requests").timers()).hasSize(3);
+        assertThat(meterRegistry.get("geocoding.kakao.requests").tag("outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("geocoding.kakao.requests").tag("outcome", "error").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("geocoding.kakao.requests").tag("outcome", "quota_exceeded").timer().count()).isZero();
+    }
+}
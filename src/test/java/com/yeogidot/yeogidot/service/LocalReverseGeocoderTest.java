@@ -0,0 +1,125 @@
+package com.yeogidot.yeogidot.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalReverseGeocoderTest {
+
+    /*
+     * 테스트용 경계 (경도 x, 위도 y)
+     * - 해운대구: 129.0~129.2 / 35.0~35.2 사각형, 가운데 129.05~129.1 / 35.05~35.1 구멍
+     * - 수영구: 해운대구의 구멍을 채우는 사각형
+     * - 기장군: 떨어진 사각형 두 개 (MultiPolygon)
+     * - 이름 없음: 시/도 속성이 빠진 경계
+     */
+    private static final String FIXTURE = """
+            {"type": "FeatureCollection", "features": [
+              {"type": "Feature",
+               "properties": {"CTP_KOR_NM": "부산광역시", "SIG_KOR_NM": "해운대구"},
+               "geometry": {"type": "Polygon", "coordinates": [
+                 [[129.0, 35.0], [129.2, 35.0], [129.2, 35.2], [129.0, 35.2], [129.0, 35.0]],
+                 [[129.05, 35.05], [129.1, 35.05], [129.1, 35.1], [129.05, 35.1], [129.05, 35.05]]]}},
+              {"type": "Feature",
+               "properties": {"CTP_KOR_NM": "부산광역시", "SIG_KOR_NM": "수영구"},
+               "geometry": {"type": "Polygon", "coordinates": [
+                 [[129.05, 35.05], [129.1, 35.05], [129.1, 35.1], [129.05, 35.1], [129.05, 35.05]]]}},
+              {"type": "Feature",
+               "properties": {"CTP_KOR_NM": "부산광역시", "SIG_KOR_NM": "기장군"},
+               "geometry": {"type": "MultiPolygon", "coordinates": [
+                 [[[129.3, 35.0], [129.4, 35.0], [129.4, 35.1], [129.3, 35.1], [129.3, 35.0]]],
+                 [[[129.5, 35.0], [129.6, 35.0], [129.6, 35.1], [129.5, 35.1], [129.5, 35.0]]]]}},
+              {"type": "Feature",
+               "properties": {"SIG_KOR_NM": "동래구"},
+               "geometry": {"type": "Polygon", "coordinates": [
+                 [[129.7, 35.0], [129.8, 35.0], [129.8, 35.1], [129.7, 35.1], [129.7, 35.0]]]}},
+              {"type": "Feature",
+               "properties": {"CTP_KOR_NM": "부산광역시", "SIG_KOR_NM": "점"},
+               "geometry": {"type": "Point", "coordinates": [129.0, 35.0]}}
+            ]}
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    private LocalReverseGeocoder geocoder;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path file = tempDir.resolve("sig.geojson");
+        Files.writeString(file, FIXTURE);
+        geocoder = geocoder(file.toString());
+    }
+
+    private static LocalReverseGeocoder geocoder(String boundaryFile) {
+        LocalReverseGeocoder geocoder = new LocalReverseGeocoder(new ObjectMapper());
+        ReflectionTestUtils.setField(geocoder, "boundaryFile", boundaryFile);
+        ReflectionTestUtils.setField(geocoder, "region1Property", "CTP_KOR_NM");
+        ReflectionTestUtils.setField(geocoder, "region2Property", "SIG_KOR_NM");
+        geocoder.load();
+        return geocoder;
+    }
+
+    @Test
+    void findsPolygonAndSkipsHole() {
+        assertThat(district(35.15, 129.15)).isEqualTo("부산광역시 해운대구");
+        // 구멍 안은 해운대구가 아니라 구멍을 채우는 수영구
+        assertThat(district(35.07, 129.07)).isEqualTo("부산광역시 수영구");
+    }
+
+    @Test
+    void findsEveryPartOfMultiPolygon() {
+        assertThat(district(35.05, 129.35)).isEqualTo("부산광역시 기장군");
+        assertThat(district(35.05, 129.55)).isEqualTo("부산광역시 기장군");
+        // 두 조각 사이는 어느 경계에도 속하지 않음
+        assertThat(geocoder.reverseGeocode(decimal(35.05), decimal(129.45))).isNull();
+    }
+
+    @Test
+    void findsPointOnCellBoundary() {
+        // 격자 칸(0.05도) 경계선 위의 좌표도 양쪽 칸 어디서 찾든 같은 경계로 판단
+        assertThat(district(35.15, 129.1)).isEqualTo("부산광역시 해운대구");
+        assertThat(district(35.1, 129.15)).isEqualTo("부산광역시 해운대구");
+        assertThat(district(35.15, 129.15)).isEqualTo("부산광역시 해운대구");
+    }
+
+    @Test
+    void returnsNullOutsideCoverage() {
+        // 서울 (격자 인덱스에 없는 칸)
+        assertThat(geocoder.reverseGeocode(decimal(37.5665), decimal(126.978))).isNull();
+        // 인덱스에는 있지만 경계 사이 틈
+        assertThat(geocoder.reverseGeocode(decimal(35.05), decimal(129.25))).isNull();
+    }
+
+    @Test
+    void treatsMissingRegionNameAsMiss() {
+        // 시/도 이름이 없는 경계는 확정하지 않고 다음 구현체(카카오)에 맡김
+        assertThat(geocoder.reverseGeocode(decimal(35.05), decimal(129.75))).isNull();
+    }
+
+    @Test
+    void returnsNullWithoutBoundaryFile() {
+        assertThat(geocoder("").reverseGeocode(decimal(35.15), decimal(129.15))).isNull();
+        assertThat(geocoder(tempDir.resolve("missing.geojson").toString())
+                .reverseGeocode(decimal(35.15), decimal(129.15))).isNull();
+    }
+
+    private String district(double latitude, double longitude) {
+        GeoCodingService.RegionInfo regionInfo = geocoder.reverseGeocode(decimal(latitude), decimal(longitude));
+        assertThat(regionInfo).as("%s, %s", latitude, longitude).isNotNull();
+        return regionInfo.getDistrictName();
+    }
+
+    private static BigDecimal decimal(double value) {
+        return BigDecimal.valueOf(value);
+    }
+}
@@ -0,0 +1,109 @@
+package com.yeogidot.yeogidot.service;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인 시도 제한을 내장 Redis에서 확인 (동시 실패가 한도를 넘지 않는지)
+ */
+class LoginAttemptServiceTest {
+
+    private static final String IP = "127.0.0.1";
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private LoginAttemptService loginAttemptService;
+    private String email;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        loginAttemptService = new LoginAttemptService(new RateLimiter(redisTemplate));
+        email = UUID.randomUUID() + "@example.com";
+    }
+
+    @Test
+    void blocksAfterFiveAttempts() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(loginAttemptService.tryAttempt(email, IP)).isTrue();
+        }
+        assertThat(loginAttemptService.tryAttempt(email, IP)).isFalse();
+        assertThat(loginAttemptService.getRemainingAttempts(email, IP)).isZero();
+
+        // 다른 IP는 별도로 셈
+        assertThat(loginAttemptService.tryAttempt(email, "10.0.0.1")).isTrue();
+    }
+
+    @Test
+    void concurrentAttemptsNeverExceedLimit() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Callable<Boolean>> attempts = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                attempts.add(() -> loginAttemptService.tryAttempt(email, IP));
+            }
+
+            int allowed = 0;
+            for (Future<Boolean> result : executor.invokeAll(attempts)) {
+                allowed += result.get() ? 1 : 0;
+            }
+            assertThat(allowed).isEqualTo(5);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void successResetsAttempts() {
+        for (int i = 0; i < 4; i++) {
+            loginAttemptService.tryAttempt(email, IP);
+        }
+        loginAttemptService.loginSucceeded(email, IP);
+
+        assertThat(loginAttemptService.getRemainingAttempts(email, IP)).isEqualTo(5);
+    }
+}
@@ -0,0 +1,137 @@
+package com.yeogidot.yeogidot.service;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 슬라이딩 윈도우 Lua 스크립트를 내장 Redis에서 실행해 세 가지 모드(확인 / 한도 이내 기록 / 항상 기록)를 확인
+ */
+class RateLimiterTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RateLimiter rateLimiter;
+    private String key;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new RateLimiter(redisTemplate);
+        key = "test:" + UUID.randomUUID();
+    }
+
+    @Test
+    void tryAcquireRecordsOnlyWithinLimit() {
+        assertThat(rateLimiter.tryAcquire(key, 3, WINDOW)).isEqualTo(new RateLimiter.Decision(true, 2, Duration.ZERO));
+        assertThat(rateLimiter.tryAcquire(key, 3, WINDOW).remaining()).isEqualTo(1);
+
+        RateLimiter.Decision third = rateLimiter.tryAcquire(key, 3, WINDOW);
+        assertThat(third.allowed()).isTrue();
+        assertThat(third.remaining()).isZero();
+        assertThat(third.retryAfter()).isPositive().isLessThanOrEqualTo(WINDOW);
+
+        RateLimiter.Decision rejected = rateLimiter.tryAcquire(key, 3, WINDOW);
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.remaining()).isZero();
+        assertThat(rejected.retryAfter()).isPositive().isLessThanOrEqualTo(WINDOW);
+
+        // 거절된 시도는 기록되지 않음
+        assertThat(attempts()).isEqualTo(3);
+        assertThat(redisTemplate.getExpire("rate:" + key)).isPositive();
+    }
+
+    @Test
+    void recordCountsEveryAttempt() {
+        assertThat(rateLimiter.record(key, 2, WINDOW).allowed()).isTrue();
+        assertThat(rateLimiter.record(key, 2, WINDOW).allowed()).isTrue();
+
+        // 한도를 넘어도 기록 (실패 횟수처럼 발생한 사건을 셈)
+        RateLimiter.Decision third = rateLimiter.record(key, 2, WINDOW);
+        assertThat(third.allowed()).isFalse();
+        assertThat(third.remaining()).isZero();
+        assertThat(attempts()).isEqualTo(3);
+    }
+
+    @Test
+    void checkDoesNotRecord() {
+        assertThat(rateLimiter.check(key, 2, WINDOW)).isEqualTo(new RateLimiter.Decision(true, 2, Duration.ZERO));
+        assertThat(redisTemplate.hasKey("rate:" + key)).isFalse();
+
+        rateLimiter.record(key, 2, WINDOW);
+        rateLimiter.record(key, 2, WINDOW);
+
+        RateLimiter.Decision decision = rateLimiter.check(key, 2, WINDOW);
+        assertThat(decision.allowed()).isFalse();
+        assertThat(decision.retryAfter()).isPositive();
+        assertThat(attempts()).isEqualTo(2);
+    }
+
+    @Test
+    void attemptsLeaveWindowOverTime() throws InterruptedException {
+        Duration window = Duration.ofMillis(200);
+        assertThat(rateLimiter.tryAcquire(key, 1, window).allowed()).isTrue();
+        assertThat(rateLimiter.tryAcquire(key, 1, window).allowed()).isFalse();
+
+        Thread.sleep(window.toMillis() + 50);
+
+        // 고정 윈도우가 아니라 기록 시각 기준으로 빠져나감
+        assertThat(rateLimiter.tryAcquire(key, 1, window).allowed()).isTrue();
+        assertThat(attempts()).isEqualTo(1);
+    }
+
+    @Test
+    void resetClearsAttempts() {
+        rateLimiter.record(key, 1, WINDOW);
+        assertThat(rateLimiter.check(key, 1, WINDOW).allowed()).isFalse();
+
+        rateLimiter.reset(key);
+
+        assertThat(rateLimiter.check(key, 1, WINDOW).allowed()).isTrue();
+    }
+
+    private long attempts() {
+        Long count = redisTemplate.opsForZSet().zCard("rate:" + key);
+        return count != null ? count : 0;
+    }
+}
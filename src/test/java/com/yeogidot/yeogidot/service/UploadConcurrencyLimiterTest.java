@@ -0,0 +1,111 @@
+package com.yeogidot.yeogidot.service;
+
+import com.yeogidot.yeogidot.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UploadConcurrencyLimiterTest {
+
+    private static final Long USER_ID = 1L;
+
+    private ExecutorService executor;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    // 전역 동시 실행 1개, 사용자별 동시 실행 1개, 대기열 2개
+    private UploadConcurrencyLimiter limiter() {
+        return new UploadConcurrencyLimiter(executor, meterRegistry, 1, 1, 2, 2);
+    }
+
+    @Test
+    void holdsPermitUntilTransferCompletes() throws Exception {
+        UploadConcurrencyLimiter limiter = limiter();
+        CompletableFuture<String> firstTransfer = new CompletableFuture<>();
+        AtomicInteger started = new AtomicInteger();
+
+        List<CompletableFuture<String>> futures = limiter.submitAll(USER_ID, List.of(
+                task(started, firstTransfer),
+                task(started, CompletableFuture.completedFuture("second"))
+        ));
+
+        // 첫 작업의 준비가 끝나 전송 중이어도 두 번째 작업은 시작되지 않음
+        Thread.sleep(100);
+        assertThat(started).hasValue(1);
+        assertThat(meterRegistry.get("upload.tasks.active").gauge().value()).isEqualTo(1);
+
+        firstTransfer.complete("first");
+        assertThat(futures.get(0).get(1, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(futures.get(1).get(1, TimeUnit.SECONDS)).isEqualTo("second");
+        assertThat(started).hasValue(2);
+    }
+
+    @Test
+    void rejectsWhileTransfersArePending() throws Exception {
+        UploadConcurrencyLimiter limiter = limiter();
+        CompletableFuture<String> transfer = new CompletableFuture<>();
+        AtomicInteger started = new AtomicInteger();
+
+        List<CompletableFuture<String>> futures = limiter.submitAll(USER_ID, List.of(
+                task(started, transfer), task(started, transfer)));
+
+        // 전송이 끝나지 않은 작업이 대기열 자리를 계속 차지
+        Thread.sleep(100);
+        assertThatThrownBy(() -> limiter.submitAll(USER_ID, List.of(task(started, transfer))))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        // 실패로 끝나도 자리를 반납
+        transfer.completeExceptionally(new IllegalStateException("R2 전송 실패"));
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).handle((ignored, error) -> null)
+                .get(1, TimeUnit.SECONDS);
+        assertThat(futures).allMatch(CompletableFuture::isCompletedExceptionally);
+
+        CompletableFuture<String> next = limiter.submitAll(USER_ID,
+                List.of(task(started, CompletableFuture.completedFuture("next")))).get(0);
+        assertThat(next.get(1, TimeUnit.SECONDS)).isEqualTo("next");
+        assertThat(meterRegistry.get("upload.tasks.active").gauge().value()).isZero();
+    }
+
+    @Test
+    void releasesPermitWhenPreparationFails() throws Exception {
+        UploadConcurrencyLimiter limiter = limiter();
+
+        CompletableFuture<String> failed = limiter.<String>submitAll(USER_ID, List.of(() -> {
+            throw new IllegalArgumentException("압축 실패");
+        })).get(0);
+        assertThatThrownBy(() -> failed.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalArgumentException.class);
+
+        CompletableFuture<String> next = limiter.submitAll(USER_ID,
+                List.of(task(new AtomicInteger(), CompletableFuture.completedFuture("next")))).get(0);
+        assertThat(next.get(1, TimeUnit.SECONDS)).isEqualTo("next");
+    }
+
+    private static Callable<CompletableFuture<String>> task(AtomicInteger started, CompletableFuture<String> transfer) {
+        return () -> {
+            started.incrementAndGet();
+            return transfer;
+        };
+    }
+}